@@ -0,0 +1,92 @@
+package dk.emstar.common.validation.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dk.emstar.common.validation.ObjectValidationContext;
+import dk.emstar.common.validation.Required;
+import dk.emstar.common.validation.ValidationResult;
+import dk.emstar.common.validation.domain.Order;
+import dk.emstar.common.validation.domain.OrderLine;
+import dk.emstar.common.validation.domain.Person;
+
+/**
+ * Only uses the API of the first released version, so the same benchmark can be run against older versions to compare.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BaselineValidationBenchmark {
+
+    @Param({ "3", "100" })
+    private int orderLineCount;
+
+    @Param({ "true", "false" })
+    private boolean valid;
+
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        Person customer = new Person();
+        customer.setFirstname("Funny");
+
+        List<OrderLine> orderLines = new ArrayList<OrderLine>(orderLineCount);
+        for (int i = 0; i < orderLineCount; i++) {
+            OrderLine orderLine = new OrderLine();
+            orderLine.setItemCode(valid || i % 2 == 0 ? "item" + i : null);
+            orderLines.add(orderLine);
+        }
+
+        order = new Order();
+        order.setCustomer(customer);
+        order.setOrderLine(orderLines);
+    }
+
+    @Benchmark
+    public boolean hasFailure() {
+        return validate().hasFailure();
+    }
+
+    @Benchmark
+    public String getAllDetailsAsString() {
+        return validate().getAllDetailsAsString();
+    }
+
+    private ValidationResult validate() {
+        return new ObjectValidationContext<Order>("order", order)
+            .failWhenMissing()
+            .evaluate("customer", Order::getCustomer,
+                $customer -> $customer
+                    .failWhenMissing()
+                    .validateString("firstname", Person::getFirstname, 30, Required.Mandatory))
+            .evaluateCollection("orderlines", Order::getOrderLine,
+                $orderLines -> $orderLines
+                    .failWhenMissing()
+                    .failWhenEmpty()
+                    .evaluateEachItem("orderline",
+                        $orderLine -> $orderLine
+                            .failWhenMissing()
+                            .validateString("itemCode", OrderLine::getItemCode,
+                                $itemCode -> $itemCode
+                                    .failWhenMissing()
+                                    .failWhenLongerThan(10))))
+            .result();
+    }
+}
@@ -0,0 +1,56 @@
+package dk.emstar.common.validation.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dk.emstar.common.validation.CollectionValidationContext;
+import dk.emstar.common.validation.ValidationResult;
+import dk.emstar.common.validation.domain.OrderLine;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionValidationBenchmark {
+
+    @Param({ "100", "10000" })
+    private int size;
+
+    @Param({ "true", "false" })
+    private boolean valid;
+
+    private List<OrderLine> orderLines;
+
+    @Setup
+    public void setUp() {
+        orderLines = Orders.create(size, valid).getOrderLine();
+    }
+
+    @Benchmark
+    public ValidationResult validateEachItem() {
+        return new CollectionValidationContext<OrderLine>("orderlines", "order", "order.orderlines", orderLines)
+            .validateEachItem("orderline", Orders.ORDER_LINE_PLAN)
+            .result();
+    }
+
+    @Benchmark
+    public ValidationResult validateEachItemInParallel() {
+        return new CollectionValidationContext<OrderLine>("orderlines", "order", "order.orderlines", orderLines)
+            .validateEachItemInParallel("orderline", Orders.ORDER_LINE_PLAN)
+            .result();
+    }
+}
@@ -0,0 +1,47 @@
+package dk.emstar.common.validation.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dk.emstar.common.validation.ValidationResult;
+import dk.emstar.common.validation.domain.Order;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NestedValidationBenchmark {
+
+    @Param({ "true", "false" })
+    private boolean valid;
+
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        order = Orders.create(3, valid);
+    }
+
+    @Benchmark
+    public ValidationResult fluent() {
+        return Orders.validateFluently(order);
+    }
+
+    @Benchmark
+    public ValidationResult plan() {
+        return Orders.ORDER_PLAN.validateItem(order);
+    }
+}
@@ -0,0 +1,97 @@
+package dk.emstar.common.validation.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import dk.emstar.common.validation.ObjectValidationContext;
+import dk.emstar.common.validation.Required;
+import dk.emstar.common.validation.ValidationPlan;
+import dk.emstar.common.validation.ValidationResult;
+import dk.emstar.common.validation.domain.Address;
+import dk.emstar.common.validation.domain.Order;
+import dk.emstar.common.validation.domain.OrderLine;
+import dk.emstar.common.validation.domain.Person;
+
+final class Orders {
+
+    static final ValidationPlan<OrderLine> ORDER_LINE_PLAN = ValidationPlan.<OrderLine>builder("orderline")
+            .failWhenMissing()
+            .validateString("itemCode", OrderLine::getItemCode,
+                $itemCode -> $itemCode
+                    .failWhenMissing()
+                    .failWhenLongerThan(10))
+            .build();
+
+    static final ValidationPlan<Order> ORDER_PLAN = ValidationPlan.<Order>builder("order")
+            .failWhenMissing()
+            .validate("customer", Order::getCustomer,
+                $customer -> $customer
+                    .failWhenMissing()
+                    .validateString("firstname", Person::getFirstname, 30, Required.Mandatory)
+                    .validate("billingAddress", Person::getBillingAddress,
+                        $billingAddress -> $billingAddress
+                            .asOptional()
+                            .validateString("addressline1", Address::getAddressline1,
+                                $addressline1 -> $addressline1
+                                    .failWhenMissing()
+                                    .failWhenLongerThan(30))))
+            .validateCollection("orderlines", Order::getOrderLine,
+                $orderLines -> $orderLines
+                    .failWhenMissing()
+                    .failWhenEmpty()
+                    .validateEachItem("orderline", ORDER_LINE_PLAN))
+            .build();
+
+    private Orders() {
+    }
+
+    static ValidationResult validateFluently(Order order) {
+        return new ObjectValidationContext<Order>("order", order)
+            .failWhenMissing()
+            .evaluate("customer", Order::getCustomer,
+                $customer -> $customer
+                    .failWhenMissing()
+                    .validateString("firstname", Person::getFirstname, 30, Required.Mandatory)
+                    .evaluate("billingAddress", Person::getBillingAddress,
+                        $billingAddress -> $billingAddress
+                            .asOptional()
+                            .validateString("addressline1", Address::getAddressline1,
+                                $addressline1 -> $addressline1
+                                    .failWhenMissing()
+                                    .failWhenLongerThan(30))))
+            .evaluateCollection("orderlines", Order::getOrderLine,
+                $orderLines -> $orderLines
+                    .failWhenMissing()
+                    .failWhenEmpty()
+                    .evaluateEachItem("orderline",
+                        $orderLine -> $orderLine
+                            .failWhenMissing()
+                            .validateString("itemCode", OrderLine::getItemCode,
+                                $itemCode -> $itemCode
+                                    .failWhenMissing()
+                                    .failWhenLongerThan(10))))
+            .result();
+    }
+
+    static Order create(int orderLineCount, boolean valid) {
+        Address billingAddress = new Address();
+        billingAddress.setAddressline1(valid ? "Holmbladsgade 133" : null);
+
+        Person customer = new Person();
+        customer.setFirstname("Funny");
+        customer.setBillingAddress(billingAddress);
+
+        List<OrderLine> orderLines = new ArrayList<OrderLine>(orderLineCount);
+        for (int i = 0; i < orderLineCount; i++) {
+            OrderLine orderLine = new OrderLine();
+            orderLine.setItemCode(valid || i % 2 == 0 ? "item" + i : null);
+            orderLine.setQuantity(i + 1);
+            orderLines.add(orderLine);
+        }
+
+        Order order = new Order();
+        order.setCustomer(customer);
+        order.setOrderLine(orderLines);
+        return order;
+    }
+}
@@ -0,0 +1,86 @@
+package dk.emstar.common.validation.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dk.emstar.common.validation.ThrowableValidationResult;
+import dk.emstar.common.validation.ValidationException;
+import dk.emstar.common.validation.ValidationResult;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationResultBenchmark {
+
+    @Param({ "4", "16" })
+    private int depth;
+
+    @Param({ "true", "false" })
+    private boolean valid;
+
+    private ValidationResult validationResult;
+
+    @Setup
+    public void setUp() {
+        validationResult = createResult(0);
+    }
+
+    @Benchmark
+    public boolean hasFailure() {
+        return validationResult.hasFailure();
+    }
+
+    @Benchmark
+    public String getAllDetailsAsString() {
+        return validationResult.getAllDetailsAsString();
+    }
+
+    @Benchmark
+    public ValidationException throwIncludeAllMessagesWhenAnyFailures() {
+        try {
+            validationResult.conclude(ThrowableValidationResult::throwIncludeAllMessagesWhenAnyFailures);
+        } catch (ValidationException e) {
+            return e;
+        }
+
+        return null;
+    }
+
+    @Benchmark
+    public ValidationException throwForFirstFoundWhenAnyFailures() {
+        try (ThrowableValidationResult throwableValidationResult = new ThrowableValidationResult(validationResult)) {
+            throwableValidationResult.throwForFirstFoundWhenAnyFailures();
+        } catch (ValidationException e) {
+            return e;
+        }
+
+        return null;
+    }
+
+    private ValidationResult createResult(int level) {
+        ValidationResult result = new ValidationResult("level" + level, "root", "root.level" + level);
+        result.registerValidationWarning("W" + level, "warning at level", level);
+        if (level < depth) {
+            result.register(createResult(level + 1));
+            result.register(createResult(level + 1 + depth));
+        } else if (!valid) {
+            result.registerValidationFailure("F" + level, "failure at leaf", level);
+        }
+
+        return result;
+    }
+}
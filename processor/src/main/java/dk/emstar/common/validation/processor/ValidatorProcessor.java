@@ -0,0 +1,378 @@
+package dk.emstar.common.validation.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+import dk.emstar.common.validation.Matching;
+import dk.emstar.common.validation.MaxLength;
+import dk.emstar.common.validation.NotAfter;
+import dk.emstar.common.validation.NotBefore;
+import dk.emstar.common.validation.Required;
+import dk.emstar.common.validation.Requirement;
+import dk.emstar.common.validation.Validated;
+
+/**
+ * Generates a validator for every class annotated with {@link Validated}. The validator is plain Java on top of
+ * {@link dk.emstar.common.validation.ObjectValidationContext} with method references as getters, so it needs neither
+ * reflection nor class generation at runtime.
+ */
+@SupportedAnnotationTypes("dk.emstar.common.validation.Validated")
+public class ValidatorProcessor extends AbstractProcessor {
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+        for (TypeElement type : ElementFilter.typesIn(roundEnvironment.getElementsAnnotatedWith(Validated.class))) {
+            if (type.getNestingKind() != NestingKind.TOP_LEVEL || !type.getModifiers().contains(Modifier.PUBLIC)) {
+                processingEnv.getMessager().printMessage(Kind.ERROR, "only public top level classes can be validated", type);
+                continue;
+            }
+
+            List<Property> properties = findProperties(type);
+            if (properties != null) {
+                write(type, properties);
+            }
+        }
+
+        return true;
+    }
+
+    private List<Property> findProperties(TypeElement type) {
+        List<Property> properties = new ArrayList<Property>();
+        boolean valid = true;
+        for (Element element : type.getEnclosedElements()) {
+            String name;
+            ExecutableElement getter;
+            TypeMirror propertyType;
+            if (element.getKind() == ElementKind.FIELD) {
+                if (!isAnnotated(element) && !isValidated(element.asType())) {
+                    continue;
+                }
+
+                name = element.getSimpleName().toString();
+                getter = findGetter(type, name);
+                propertyType = element.asType();
+                if (getter == null) {
+                    processingEnv.getMessager().printMessage(Kind.ERROR, "no public getter for " + name, element);
+                    valid = false;
+                    continue;
+                }
+            } else if (element.getKind() == ElementKind.METHOD && isAnnotated(element)) {
+                getter = (ExecutableElement) element;
+                name = toPropertyName(getter.getSimpleName().toString());
+                propertyType = getter.getReturnType();
+                if (name == null || !getter.getParameters().isEmpty() || !getter.getModifiers().contains(Modifier.PUBLIC)) {
+                    processingEnv.getMessager().printMessage(Kind.ERROR, "only public getters can be validated", element);
+                    valid = false;
+                    continue;
+                }
+            } else {
+                continue;
+            }
+
+            Property property = createProperty(element, name, getter, propertyType);
+            if (property == null) {
+                valid = false;
+            } else {
+                properties.add(property);
+            }
+        }
+
+        return valid ? properties : null;
+    }
+
+    private Property createProperty(Element element, String name, ExecutableElement getter, TypeMirror type) {
+        Property property = new Property(name, getter.getSimpleName().toString(), type);
+        Requirement requirement = element.getAnnotation(Requirement.class);
+        property.required = requirement == null ? null : requirement.value();
+
+        MaxLength maxLength = element.getAnnotation(MaxLength.class);
+        Matching matching = element.getAnnotation(Matching.class);
+        NotBefore notBefore = element.getAnnotation(NotBefore.class);
+        NotAfter notAfter = element.getAnnotation(NotAfter.class);
+        if (isType(type, String.class.getName())) {
+            property.kind = PropertyKind.String;
+        } else if (isType(type, LocalDateTime.class.getName())) {
+            property.kind = PropertyKind.LocalDateTime;
+        } else if (isValidated(type)) {
+            property.kind = PropertyKind.Validated;
+        } else if (type.getKind() == TypeKind.DECLARED || type.getKind() == TypeKind.ARRAY) {
+            property.kind = PropertyKind.Object;
+        } else {
+            processingEnv.getMessager().printMessage(Kind.ERROR, "primitive properties cannot be validated", element);
+            return null;
+        }
+
+        if ((maxLength != null || matching != null) && property.kind != PropertyKind.String) {
+            processingEnv.getMessager().printMessage(Kind.ERROR, "length and pattern can only be validated on strings", element);
+            return null;
+        }
+
+        if ((notBefore != null || notAfter != null) && property.kind != PropertyKind.LocalDateTime) {
+            processingEnv.getMessager().printMessage(Kind.ERROR, "temporal bounds can only be validated on local date times", element);
+            return null;
+        }
+
+        property.maxLength = maxLength == null ? null : maxLength.value();
+        try {
+            if (matching != null) {
+                Pattern.compile(matching.value());
+                property.pattern = matching.value();
+            }
+
+            if (notBefore != null) {
+                LocalDateTime.parse(notBefore.value());
+                property.notBefore = notBefore.value();
+            }
+
+            if (notAfter != null) {
+                LocalDateTime.parse(notAfter.value());
+                property.notAfter = notAfter.value();
+            }
+        } catch (PatternSyntaxException | DateTimeParseException e) {
+            processingEnv.getMessager().printMessage(Kind.ERROR, e.getMessage(), element);
+            return null;
+        }
+
+        return property;
+    }
+
+    private void write(TypeElement type, List<Property> properties) {
+        String packageName = ((PackageElement) type.getEnclosingElement()).getQualifiedName().toString();
+        String typeName = type.getQualifiedName().toString();
+        String validatorName = type.getSimpleName() + "Validator";
+        String context = type.getAnnotation(Validated.class).value();
+        if (context.isEmpty()) {
+            context = decapitalize(type.getSimpleName().toString());
+        }
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+
+        source.append("import dk.emstar.common.validation.ObjectValidationContext;\n");
+        source.append("import dk.emstar.common.validation.ValidationResult;\n");
+        source.append("import dk.emstar.common.validation.Validator;\n\n");
+        source.append("public final class ").append(validatorName).append(" implements Validator<ObjectValidationContext<").append(typeName)
+            .append(">> {\n");
+        source.append("    public static final ").append(validatorName).append(" INSTANCE = new ").append(validatorName).append("();\n");
+        for (Property property : properties) {
+            String constant = property.name.toUpperCase(Locale.ROOT);
+            if (property.pattern != null) {
+                source.append("    private static final java.util.regex.Pattern ").append(constant).append("_PATTERN = java.util.regex.Pattern.compile(")
+                    .append(toLiteral(property.pattern)).append(");\n");
+            }
+
+            if (property.notBefore != null) {
+                source.append("    private static final java.time.LocalDateTime ").append(constant).append("_NOT_BEFORE = java.time.LocalDateTime.parse(")
+                    .append(toLiteral(property.notBefore)).append(");\n");
+            }
+
+            if (property.notAfter != null) {
+                source.append("    private static final java.time.LocalDateTime ").append(constant).append("_NOT_AFTER = java.time.LocalDateTime.parse(")
+                    .append(toLiteral(property.notAfter)).append(");\n");
+            }
+        }
+
+        source.append("\n    public ValidationResult validateItem(").append(typeName).append(" item) {\n");
+        source.append("        return validate(new ObjectValidationContext<").append(typeName).append(">(").append(toLiteral(context))
+            .append(", item));\n");
+        source.append("    }\n\n");
+        source.append("    @Override\n");
+        source.append("    public ValidationResult validate(ObjectValidationContext<").append(typeName).append("> validationContext) {\n");
+        source.append("        return validationContext\n");
+        for (Property property : properties) {
+            appendProperty(source, typeName, property);
+        }
+
+        source.append("            .result();\n");
+        source.append("    }\n");
+        source.append("}\n");
+
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(packageName.isEmpty() ? validatorName : packageName + "." + validatorName,
+                    type);
+            try (Writer writer = sourceFile.openWriter()) {
+                writer.write(source.toString());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Kind.ERROR, "validator could not be written: " + e.getMessage(), type);
+        }
+    }
+
+    private void appendProperty(StringBuilder source, String typeName, Property property) {
+        String parameter = "$" + property.name;
+        String getter = typeName + "::" + property.getter;
+        String constant = property.name.toUpperCase(Locale.ROOT);
+        switch (property.kind) {
+        case String:
+            source.append("            .validateString(").append(toLiteral(property.name)).append(", ").append(getter).append(", ")
+                .append(parameter).append(" -> ").append(parameter);
+            appendRequirement(source, property);
+            if (property.maxLength != null) {
+                source.append(".failWhenLongerThan(").append(property.maxLength).append(')');
+            }
+
+            if (property.pattern != null) {
+                source.append(".failWhenNotMatching(").append(constant).append("_PATTERN)");
+            }
+
+            source.append(")\n");
+            break;
+        case LocalDateTime:
+            source.append("            .validateLocalDateTime(").append(toLiteral(property.name)).append(", ").append(getter).append(", ")
+                .append(parameter).append(" -> ").append(parameter);
+            appendRequirement(source, property);
+            if (property.notBefore != null) {
+                source.append(".failWhenBefore(").append(constant).append("_NOT_BEFORE)");
+            }
+
+            if (property.notAfter != null) {
+                source.append(".failWhenAfter(").append(constant).append("_NOT_AFTER)");
+            }
+
+            source.append(")\n");
+            break;
+        case Validated:
+            source.append("            .validate(").append(toLiteral(property.name)).append(", ").append(getter).append(", ")
+                .append(parameter).append(" -> ").append(getValidatorName(property.type)).append(".INSTANCE.validate(").append(parameter);
+            appendRequirement(source, property);
+            source.append("))\n");
+            break;
+        default:
+            source.append("            .validate(").append(toLiteral(property.name)).append(", ").append(getter).append(", ")
+                .append(parameter).append(" -> ").append(parameter);
+            appendRequirement(source, property);
+            source.append(".result())\n");
+            break;
+        }
+    }
+
+    private void appendRequirement(StringBuilder source, Property property) {
+        if (Required.Mandatory.equals(property.required)) {
+            source.append(".failWhenMissing()");
+        } else if (Required.Optional.equals(property.required)) {
+            source.append(".asOptional()");
+        }
+    }
+
+    private String getValidatorName(TypeMirror type) {
+        TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        String packageName = processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString();
+        return (packageName.isEmpty() ? "" : packageName + ".") + element.getSimpleName() + "Validator";
+    }
+
+    private ExecutableElement findGetter(TypeElement type, String property) {
+        String suffix = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            String name = method.getSimpleName().toString();
+            if ((name.equals("get" + suffix) || name.equals("is" + suffix)) && method.getParameters().isEmpty()
+                    && method.getModifiers().contains(Modifier.PUBLIC) && !method.getModifiers().contains(Modifier.STATIC)) {
+                return method;
+            }
+        }
+
+        return null;
+    }
+
+    private boolean isAnnotated(Element element) {
+        return element.getAnnotation(Requirement.class) != null || element.getAnnotation(MaxLength.class) != null
+                || element.getAnnotation(Matching.class) != null || element.getAnnotation(NotBefore.class) != null
+                || element.getAnnotation(NotAfter.class) != null;
+    }
+
+    private boolean isValidated(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED && ((DeclaredType) type).asElement().getAnnotation(Validated.class) != null;
+    }
+
+    private boolean isType(TypeMirror type, String name) {
+        return type.getKind() == TypeKind.DECLARED
+                && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(name);
+    }
+
+    private static String toPropertyName(String getter) {
+        if (getter.startsWith("get") && getter.length() > 3) {
+            return decapitalize(getter.substring(3));
+        }
+
+        if (getter.startsWith("is") && getter.length() > 2) {
+            return decapitalize(getter.substring(2));
+        }
+
+        return null;
+    }
+
+    private static String decapitalize(String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String toLiteral(String value) {
+        StringBuilder literal = new StringBuilder().append('"');
+        for (char character : value.toCharArray()) {
+            if (character == '"' || character == '\\') {
+                literal.append('\\').append(character);
+            } else if (character < ' ') {
+                literal.append(String.format("\\%03o", (int) character));
+            } else if (character > '~') {
+                literal.append(String.format("\\u%04x", (int) character));
+            } else {
+                literal.append(character);
+            }
+        }
+
+        return literal.append('"').toString();
+    }
+
+    private enum PropertyKind {
+        String, LocalDateTime, Validated, Object, ;
+    }
+
+    private static final class Property {
+        private final String name;
+        private final String getter;
+        private final TypeMirror type;
+        private PropertyKind kind;
+        private Required required;
+        private Integer maxLength;
+        private String pattern;
+        private String notBefore;
+        private String notAfter;
+
+        private Property(String name, String getter, TypeMirror type) {
+            this.name = name;
+            this.getter = getter;
+            this.type = type;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package dk.emstar.common.validation.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import dk.emstar.common.validation.ValidationRegistration;
+import dk.emstar.common.validation.ValidationResult;
+import dk.emstar.common.validation.ValidationResultProvider;
+
+public class ValidatorProcessorTest {
+
+    private static final String ADDRESS = String.join("\n",
+            "package sample;",
+            "import dk.emstar.common.validation.*;",
+            "@Validated",
+            "public class Address {",
+            "    @Requirement(Required.Mandatory) @MaxLength(10)",
+            "    private String street;",
+            "    @Matching(\"\\\\d{4}\")",
+            "    private String zipCode;",
+            "    public String getStreet() { return street; }",
+            "    public void setStreet(String street) { this.street = street; }",
+            "    public String getZipCode() { return zipCode; }",
+            "    public void setZipCode(String zipCode) { this.zipCode = zipCode; }",
+            "}");
+
+    private static final String CUSTOMER = String.join("\n",
+            "package sample;",
+            "import java.time.LocalDateTime;",
+            "import dk.emstar.common.validation.*;",
+            "@Validated(\"customer\")",
+            "public class Customer {",
+            "    @Requirement(Required.Mandatory)",
+            "    private String name;",
+            "    private Address address;",
+            "    @NotBefore(\"2000-01-01T00:00\") @NotAfter(\"2030-01-01T00:00\")",
+            "    private LocalDateTime created;",
+            "    public String getName() { return name; }",
+            "    public void setName(String name) { this.name = name; }",
+            "    public Address getAddress() { return address; }",
+            "    public void setAddress(Address address) { this.address = address; }",
+            "    public LocalDateTime getCreated() { return created; }",
+            "    public void setCreated(LocalDateTime created) { this.created = created; }",
+            "}");
+
+    private Path directory;
+
+    @Before
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("validator-processor");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test
+    public void process_ValidatedClasses_ValidatorsGenerated() throws Exception {
+        assertThat(compile(ADDRESS, CUSTOMER)).isEmpty();
+
+        assertThat(directory.resolve("sample/AddressValidator.java").toFile()).exists();
+        assertThat(directory.resolve("sample/CustomerValidator.java").toFile()).exists();
+    }
+
+    @Test
+    public void validateItem_InvalidCustomer_RegistersLikeTheContexts() throws Exception {
+        compile(ADDRESS, CUSTOMER);
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { directory.toUri().toURL() }, getClass().getClassLoader())) {
+            Class<?> customerClass = classLoader.loadClass("sample.Customer");
+            Class<?> addressClass = classLoader.loadClass("sample.Address");
+            Object address = addressClass.getConstructor().newInstance();
+            addressClass.getMethod("setStreet", String.class).invoke(address, "Much too long street");
+            addressClass.getMethod("setZipCode", String.class).invoke(address, "12a");
+            Object customer = customerClass.getConstructor().newInstance();
+            customerClass.getMethod("setAddress", addressClass).invoke(customer, address);
+            customerClass.getMethod("setCreated", LocalDateTime.class).invoke(customer, LocalDateTime.of(1999, 12, 31, 23, 59));
+
+            Class<?> validatorClass = classLoader.loadClass("sample.CustomerValidator");
+            Object validator = validatorClass.getField("INSTANCE").get(null);
+            ValidationResult actual = (ValidationResult) validatorClass.getMethod("validateItem", customerClass).invoke(validator, customer);
+
+            List<String> actualCodes = actual.stream().map(ValidationRegistration::getValidationCode).collect(Collectors.toList());
+            assertThat(actualCodes).containsExactly(ValidationResultProvider.MISSING,
+                    ValidationResultProvider.TOO_LONG, ValidationResultProvider.MISMATCH, ValidationResultProvider.BEFORE_TEMPORAL);
+            assertThat(actual.findValidationCode(ValidationResultProvider.TOO_LONG).getLocation()).isEqualTo("customer.address.street");
+            assertThat(actual.findValidationCode(ValidationResultProvider.BEFORE_TEMPORAL).getLocation()).isEqualTo("customer.created");
+        }
+    }
+
+    @Test
+    public void process_LengthOnLocalDateTime_Error() throws Exception {
+        String invalid = String.join("\n",
+                "package sample;",
+                "import java.time.LocalDateTime;",
+                "import dk.emstar.common.validation.*;",
+                "@Validated",
+                "public class Invalid {",
+                "    @MaxLength(10)",
+                "    private LocalDateTime created;",
+                "    public LocalDateTime getCreated() { return created; }",
+                "}");
+
+        List<String> actual = compile(invalid);
+
+        assertThat(actual).containsExactly("length and pattern can only be validated on strings");
+    }
+
+    private List<String> compile(String... sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            List<File> files = new ArrayList<File>();
+            for (String source : sources) {
+                String name = source.replaceAll("(?s).*public class (\\w+).*", "$1");
+                Path file = directory.resolve("sample").resolve(name + ".java");
+                Files.createDirectories(file.getParent());
+                Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+                files.add(file.toFile());
+            }
+
+            List<String> options = Arrays.asList("-classpath", System.getProperty("java.class.path"), "-d", directory.toString(), "-s",
+                    directory.toString());
+            CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, fileManager.getJavaFileObjectsFromFiles(files));
+            task.setProcessors(Collections.singletonList(new ValidatorProcessor()));
+            task.call();
+        }
+
+        return diagnostics.getDiagnostics().stream()
+            .filter(o -> o.getKind() == Diagnostic.Kind.ERROR)
+            .map(o -> o.getMessage(null))
+            .collect(Collectors.toList());
+    }
+}
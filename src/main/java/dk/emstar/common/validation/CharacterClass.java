@@ -0,0 +1,320 @@
+package dk.emstar.common.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+/**
+ * A regular expression made of ASCII character classes with quantifiers, e.g. {@code [A-Z]{2}\d{4}}, matched by a
+ * table lookup per character instead of {@link java.util.regex}. Only expressions where every class but the last has
+ * a fixed count are accepted, so a single greedy pass gives the same result as the regex.
+ */
+final class CharacterClass {
+    private static final int ASCII = 128;
+    private static final int UNBOUNDED = -1;
+
+    static final boolean[] DIGITS = table("0-9");
+    static final boolean[] HEX = table("0-9A-Fa-f");
+    static final boolean[] ASCII_ALPHANUMERIC = table("0-9A-Za-z");
+    static final boolean[] UPPER_CASE_LETTERS = table("A-Z");
+    private static final boolean[] WORD = table("0-9A-Za-z_-_");
+    private static final String LITERALS = "-_:/@#,;=%&'\"<>!~` ";
+    private static final String ESCAPED_LITERALS = ".-+*?()[]{}|^$\\/";
+
+    private static final LoadingCache<Pattern, Optional<CharacterClass>> PATTERNS = CacheBuilder.newBuilder()
+        .weakKeys()
+        .maximumSize(PatternCache.DEFAULT_MAXIMUM_SIZE)
+        .build(new CacheLoader<Pattern, Optional<CharacterClass>>() {
+            @Override
+            public Optional<CharacterClass> load(Pattern pattern) {
+                return Optional.ofNullable(pattern.flags() == 0 ? parse(pattern.pattern()) : null);
+            }
+        });
+
+    private final boolean[][] tables;
+    private final int[] minimums;
+    private final int[] maximums;
+
+    private CharacterClass(boolean[][] tables, int[] minimums, int[] maximums) {
+        this.tables = tables;
+        this.minimums = minimums;
+        this.maximums = maximums;
+    }
+
+    static CharacterClass of(Pattern pattern) {
+        return PATTERNS.getUnchecked(pattern).orElse(null);
+    }
+
+    boolean matches(CharSequence input) {
+        int position = 0;
+        int length = input.length();
+        for (int i = 0; i < tables.length; i++) {
+            boolean[] table = tables[i];
+            int end = maximums[i] == UNBOUNDED ? length : Math.min(length, position + maximums[i]);
+            int start = position;
+            while (position < end && isIn(table, input.charAt(position))) {
+                position++;
+            }
+
+            if (position - start < minimums[i]) {
+                return false;
+            }
+        }
+
+        return position == length;
+    }
+
+    static boolean consistsOf(boolean[] table, CharSequence input) {
+        int length = input.length();
+        if (length == 0) {
+            return false;
+        }
+
+        for (int i = 0; i < length; i++) {
+            if (!isIn(table, input.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    static boolean consistsOf(boolean[] table, CharSequence input, int length) {
+        return input.length() == length && (length == 0 || consistsOf(table, input));
+    }
+
+    private static boolean isIn(boolean[] table, char c) {
+        return c < ASCII && table[c];
+    }
+
+    /**
+     * Returns the character class equivalent of the regex, or null when it is not simple enough to be matched without
+     * {@link java.util.regex}.
+     */
+    static CharacterClass parse(String regex) {
+        String expression = regex;
+        if (expression.startsWith("^")) {
+            expression = expression.substring(1);
+        }
+
+        if (expression.endsWith("$") && !expression.endsWith("\\$")) {
+            expression = expression.substring(0, expression.length() - 1);
+        }
+
+        List<boolean[]> tables = new ArrayList<boolean[]>();
+        List<int[]> counts = new ArrayList<int[]>();
+        int position = 0;
+        while (position < expression.length()) {
+            boolean[] table = new boolean[ASCII];
+            position = parseAtom(expression, position, table);
+            if (position < 0) {
+                return null;
+            }
+
+            int[] count = new int[] { 1, 1 };
+            position = parseQuantifier(expression, position, count);
+            if (position < 0) {
+                return null;
+            }
+
+            if (!counts.isEmpty() && counts.get(counts.size() - 1)[0] != counts.get(counts.size() - 1)[1]) {
+                return null;
+            }
+
+            tables.add(table);
+            counts.add(count);
+        }
+
+        if (tables.isEmpty()) {
+            return null;
+        }
+
+        int[] minimums = new int[counts.size()];
+        int[] maximums = new int[counts.size()];
+        for (int i = 0; i < counts.size(); i++) {
+            minimums[i] = counts.get(i)[0];
+            maximums[i] = counts.get(i)[1];
+        }
+
+        return new CharacterClass(tables.toArray(new boolean[tables.size()][]), minimums, maximums);
+    }
+
+    private static int parseAtom(String expression, int position, boolean[] table) {
+        char c = expression.charAt(position);
+        if (c == '[') {
+            return parseBracket(expression, position + 1, table);
+        }
+
+        if (c == '\\') {
+            return parseEscape(expression, position + 1, table);
+        }
+
+        if (isPlainLiteral(c)) {
+            table[c] = true;
+            return position + 1;
+        }
+
+        return -1;
+    }
+
+    private static int parseBracket(String expression, int position, boolean[] table) {
+        int current = position;
+        boolean empty = true;
+        while (current < expression.length()) {
+            char c = expression.charAt(current);
+            if (c == ']' && !empty) {
+                return current + 1;
+            }
+
+            if ((c == '^' || c == ']') && empty || c == '[' || c == '&' || c >= ASCII) {
+                return -1;
+            }
+
+            int first = c;
+            int next = current + 1;
+            if (c == '\\') {
+                first = escapedLiteral(expression, current + 1);
+                if (first < 0) {
+                    current = parseEscape(expression, current + 1, table);
+                    if (current < 0 || isRange(expression, current)) {
+                        return -1;
+                    }
+
+                    empty = false;
+                    continue;
+                }
+                next = current + 2;
+            }
+
+            if (isRange(expression, next)) {
+                int last = expression.charAt(next + 1);
+                current = next + 2;
+                if (last == '\\') {
+                    last = escapedLiteral(expression, next + 2);
+                    current = next + 3;
+                }
+
+                if (last < first || last >= ASCII || last == '[' || last == '&') {
+                    return -1;
+                }
+
+                for (int range = first; range <= last; range++) {
+                    table[range] = true;
+                }
+            } else {
+                table[first] = true;
+                current = next;
+            }
+
+            empty = false;
+        }
+
+        return -1;
+    }
+
+    /**
+     * A range in a bracket starts at a single character, escaped or not, and java.util.regex reads it as a range
+     * wherever the dash is followed by anything but the closing bracket.
+     */
+    private static boolean isRange(String expression, int position) {
+        return position + 1 < expression.length() && expression.charAt(position) == '-' && expression.charAt(position + 1) != ']';
+    }
+
+    private static int escapedLiteral(String expression, int position) {
+        if (position >= expression.length() || ESCAPED_LITERALS.indexOf(expression.charAt(position)) < 0) {
+            return -1;
+        }
+
+        return expression.charAt(position);
+    }
+
+    private static int parseEscape(String expression, int position, boolean[] table) {
+        if (position >= expression.length()) {
+            return -1;
+        }
+
+        char c = expression.charAt(position);
+        if (c == 'd') {
+            merge(table, DIGITS);
+        } else if (c == 'w') {
+            merge(table, WORD);
+        } else if (ESCAPED_LITERALS.indexOf(c) >= 0) {
+            table[c] = true;
+        } else {
+            return -1;
+        }
+
+        return position + 1;
+    }
+
+    private static int parseQuantifier(String expression, int position, int[] count) {
+        if (position >= expression.length()) {
+            return position;
+        }
+
+        char c = expression.charAt(position);
+        if (c == '+' || c == '*' || c == '?') {
+            count[0] = c == '+' ? 1 : 0;
+            count[1] = c == '?' ? 1 : UNBOUNDED;
+            return isPossessiveOrLazy(expression, position + 1) ? -1 : position + 1;
+        }
+
+        if (c != '{') {
+            return position;
+        }
+
+        int end = expression.indexOf('}', position);
+        if (end < 0) {
+            return -1;
+        }
+
+        String[] bounds = expression.substring(position + 1, end).split(",", -1);
+        try {
+            if (bounds.length == 1) {
+                count[0] = Integer.parseInt(bounds[0]);
+                count[1] = count[0];
+            } else if (bounds.length == 2) {
+                count[0] = Integer.parseInt(bounds[0]);
+                count[1] = bounds[1].isEmpty() ? UNBOUNDED : Integer.parseInt(bounds[1]);
+                if (count[1] != UNBOUNDED && count[1] < count[0]) {
+                    return -1;
+                }
+            } else {
+                return -1;
+            }
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+
+        return isPossessiveOrLazy(expression, end + 1) ? -1 : end + 1;
+    }
+
+    private static boolean isPossessiveOrLazy(String expression, int position) {
+        return position < expression.length() && (expression.charAt(position) == '+' || expression.charAt(position) == '?');
+    }
+
+    private static boolean isPlainLiteral(char c) {
+        return c < ASCII && ((c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || LITERALS.indexOf(c) >= 0);
+    }
+
+    private static void merge(boolean[] table, boolean[] other) {
+        for (int i = 0; i < ASCII; i++) {
+            table[i] |= other[i];
+        }
+    }
+
+    private static boolean[] table(String ranges) {
+        boolean[] table = new boolean[ASCII];
+        for (int i = 0; i < ranges.length(); i += 3) {
+            for (char c = ranges.charAt(i); c <= ranges.charAt(i + 2); c++) {
+                table[c] = true;
+            }
+        }
+        return table;
+    }
+}
@@ -0,0 +1,32 @@
+package dk.emstar.common.validation;
+
+import java.util.List;
+
+/**
+ * An immutable set of constraints over a whole collection, such as the sum, count, minimum, maximum or order of its
+ * elements. All constraints are checked in a single traversal, which can be shared with
+ * {@link CollectionValidationContext#validateEachItem(String, Validator, CollectionAggregate)}. An aggregate is thread
+ * safe and can be shared.
+ */
+public final class CollectionAggregate<T> {
+    private final CollectionAggregateRule<T>[] rules;
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    CollectionAggregate(List<CollectionAggregateRule<T>> rules) {
+        this.rules = rules.toArray(new CollectionAggregateRule[rules.size()]);
+    }
+
+    public static <T> CollectionAggregateBuilder<T> builder() {
+        return new CollectionAggregateBuilder<T>();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    CollectionAggregateRule.Accumulator<T>[] start() {
+        CollectionAggregateRule.Accumulator<T>[] accumulators = new CollectionAggregateRule.Accumulator[rules.length];
+        for (int i = 0; i < rules.length; i++) {
+            accumulators[i] = rules[i].start();
+        }
+
+        return accumulators;
+    }
+}
@@ -0,0 +1,243 @@
+package dk.emstar.common.validation;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+public class CollectionAggregateBuilder<T> {
+    private final List<CollectionAggregateRule<T>> rules = new ArrayList<CollectionAggregateRule<T>>();
+
+    CollectionAggregateBuilder() {
+    }
+
+    /**
+     * The sum is a double and therefore inexact, 0.1 + 0.2 is greater than 0.3. Use
+     * {@link #failWhenLongSumGreaterThan(ToLongFunction, long)} or
+     * {@link #failWhenDecimalSumGreaterThan(Function, BigDecimal)} when the sum must be exact. A sum that is not a
+     * number fails.
+     */
+    public CollectionAggregateBuilder<T> failWhenSumGreaterThan(ToDoubleFunction<? super T> getter, double limit) {
+        if (getter == null) {
+            throw new IllegalArgumentException("getter is missing");
+        }
+
+        if (Double.isNaN(limit)) {
+            throw new IllegalArgumentException("limit is not a number");
+        }
+
+        rules.add(() -> new CollectionAggregateRule.Accumulator<T>() {
+            private double sum;
+
+            @Override
+            public void accept(int index, T element) {
+                sum += getter.applyAsDouble(element);
+            }
+
+            @Override
+            public void conclude(CollectionValidationContext<?> context) {
+                if (!(sum <= limit)) {
+                    context.registerAggregateFailure(ValidationResultProvider.SUM_GREATER_THAN, "sum greater than", sum, limit);
+                }
+            }
+        });
+        return this;
+    }
+
+    public CollectionAggregateBuilder<T> failWhenLongSumGreaterThan(ToLongFunction<? super T> getter, long limit) {
+        if (getter == null) {
+            throw new IllegalArgumentException("getter is missing");
+        }
+
+        rules.add(() -> new CollectionAggregateRule.Accumulator<T>() {
+            private long sum;
+            private BigInteger exactSum;
+
+            @Override
+            public void accept(int index, T element) {
+                long value = getter.applyAsLong(element);
+                if (exactSum != null) {
+                    exactSum = exactSum.add(BigInteger.valueOf(value));
+                    return;
+                }
+
+                try {
+                    sum = Math.addExact(sum, value);
+                } catch (ArithmeticException e) {
+                    exactSum = BigInteger.valueOf(sum).add(BigInteger.valueOf(value));
+                }
+            }
+
+            @Override
+            public void conclude(CollectionValidationContext<?> context) {
+                if (exactSum != null) {
+                    if (exactSum.compareTo(BigInteger.valueOf(limit)) > 0) {
+                        context.registerAggregateFailure(ValidationResultProvider.SUM_GREATER_THAN, "sum greater than", exactSum, limit);
+                    }
+                } else if (sum > limit) {
+                    context.registerAggregateFailure(ValidationResultProvider.SUM_GREATER_THAN, "sum greater than", sum, limit);
+                }
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Values that are null are not added.
+     */
+    public CollectionAggregateBuilder<T> failWhenDecimalSumGreaterThan(Function<? super T, BigDecimal> getter, BigDecimal limit) {
+        if (getter == null) {
+            throw new IllegalArgumentException("getter is missing");
+        }
+
+        if (limit == null) {
+            throw new IllegalArgumentException("limit is missing");
+        }
+
+        rules.add(() -> new CollectionAggregateRule.Accumulator<T>() {
+            private BigDecimal sum = BigDecimal.ZERO;
+
+            @Override
+            public void accept(int index, T element) {
+                BigDecimal value = getter.apply(element);
+                if (value != null) {
+                    sum = sum.add(value);
+                }
+            }
+
+            @Override
+            public void conclude(CollectionValidationContext<?> context) {
+                if (sum.compareTo(limit) > 0) {
+                    context.registerAggregateFailure(ValidationResultProvider.SUM_GREATER_THAN, "sum greater than", sum, limit);
+                }
+            }
+        });
+        return this;
+    }
+
+    public CollectionAggregateBuilder<T> failWhenCountGreaterThan(Predicate<? super T> predicate, int limit) {
+        if (predicate == null) {
+            throw new IllegalArgumentException("predicate is missing");
+        }
+
+        rules.add(() -> new CollectionAggregateRule.Accumulator<T>() {
+            private int count;
+
+            @Override
+            public void accept(int index, T element) {
+                if (predicate.test(element)) {
+                    count++;
+                }
+            }
+
+            @Override
+            public void conclude(CollectionValidationContext<?> context) {
+                if (count > limit) {
+                    context.registerAggregateFailure(ValidationResultProvider.COUNT_GREATER_THAN, "count greater than", count, limit);
+                }
+            }
+        });
+        return this;
+    }
+
+    /**
+     * An element whose value is not a number fails.
+     */
+    public CollectionAggregateBuilder<T> failWhenMinimumLessThan(ToDoubleFunction<? super T> getter, double limit) {
+        if (getter == null) {
+            throw new IllegalArgumentException("getter is missing");
+        }
+
+        if (Double.isNaN(limit)) {
+            throw new IllegalArgumentException("limit is not a number");
+        }
+
+        rules.add(() -> new CollectionAggregateRule.Accumulator<T>() {
+            private double minimum = Double.POSITIVE_INFINITY;
+
+            @Override
+            public void accept(int index, T element) {
+                minimum = Math.min(minimum, getter.applyAsDouble(element));
+            }
+
+            @Override
+            public void conclude(CollectionValidationContext<?> context) {
+                if (!(minimum >= limit)) {
+                    context.registerAggregateFailure(ValidationResultProvider.MINIMUM_LESS_THAN, "minimum less than", minimum, limit);
+                }
+            }
+        });
+        return this;
+    }
+
+    /**
+     * An element whose value is not a number fails.
+     */
+    public CollectionAggregateBuilder<T> failWhenMaximumGreaterThan(ToDoubleFunction<? super T> getter, double limit) {
+        if (getter == null) {
+            throw new IllegalArgumentException("getter is missing");
+        }
+
+        if (Double.isNaN(limit)) {
+            throw new IllegalArgumentException("limit is not a number");
+        }
+
+        rules.add(() -> new CollectionAggregateRule.Accumulator<T>() {
+            private double maximum = Double.NEGATIVE_INFINITY;
+
+            @Override
+            public void accept(int index, T element) {
+                maximum = Math.max(maximum, getter.applyAsDouble(element));
+            }
+
+            @Override
+            public void conclude(CollectionValidationContext<?> context) {
+                if (!(maximum <= limit)) {
+                    context.registerAggregateFailure(ValidationResultProvider.MAXIMUM_GREATER_THAN, "maximum greater than", maximum, limit);
+                }
+            }
+        });
+        return this;
+    }
+
+    public CollectionAggregateBuilder<T> failWhenNotSorted(Comparator<? super T> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("comparator is missing");
+        }
+
+        rules.add(() -> new CollectionAggregateRule.Accumulator<T>() {
+            private T previous;
+            private boolean first = true;
+            private int unsortedIndex = -1;
+            private T unsorted;
+
+            @Override
+            public void accept(int index, T element) {
+                if (unsortedIndex < 0 && !first && comparator.compare(previous, element) > 0) {
+                    unsortedIndex = index;
+                    unsorted = element;
+                }
+
+                previous = element;
+                first = false;
+            }
+
+            @Override
+            public void conclude(CollectionValidationContext<?> context) {
+                if (unsortedIndex >= 0) {
+                    context.registerFailureAt(unsortedIndex, ValidationResultProvider.NOT_SORTED, "not sorted", unsorted);
+                }
+            }
+        });
+        return this;
+    }
+
+    public CollectionAggregate<T> build() {
+        return new CollectionAggregate<T>(rules);
+    }
+}
@@ -0,0 +1,16 @@
+package dk.emstar.common.validation;
+
+/**
+ * A constraint over a whole collection. Its accumulator sees every element once, in order, and registers its failures
+ * when the traversal is done.
+ */
+interface CollectionAggregateRule<T> {
+
+    Accumulator<T> start();
+
+    interface Accumulator<T> {
+        void accept(int index, T element);
+
+        void conclude(CollectionValidationContext<?> context);
+    }
+}
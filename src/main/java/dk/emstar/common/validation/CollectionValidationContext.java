@@ -1,14 +1,32 @@
 package dk.emstar.common.validation;
 
 import java.util.Collection;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
 
 public class CollectionValidationContext<T> extends ValidationContext<CollectionValidationContext<T>, Collection<T>> {
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1024;
+    private static final double BLOOM_FILTER_FALSE_POSITIVE_PROBABILITY = 0.01;
 
     public CollectionValidationContext(String context, String contextPath, String location, Collection<T> currentItemToBeChecked) {
         super(context, contextPath, location, currentItemToBeChecked);
     }
 
+    public CollectionValidationContext(String context, ValidationResult parent, ValidationPath location, Collection<T> currentItemToBeChecked) {
+        super(context, parent, location, currentItemToBeChecked);
+    }
+
     public CollectionValidationContext<T> failWhenEmpty() {
+        if (isStopped()) {
+            return this;
+        }
+
         if (!isCurrentToBeCheckedItemNull()) {
             if (getCurrentItemToBeChecked().size() == 0) {
                 registerAsFailure(IS_EMPTY, "is empty", getCurrentItemToBeChecked());
@@ -25,11 +43,19 @@ public class CollectionValidationContext<T> extends ValidationContext<Collection
     }
 
     public CollectionValidationContext<T> validateEachItem(String context, Validator<ObjectValidationContext<T>> validator) {
+        if (isStopped()) {
+            return this;
+        }
+
         if (!isCurrentToBeCheckedItemNull()) {
             int index = 0;
             for (T element : getCurrentItemToBeChecked()) {
-                ValidationResult validationResult = validator.validate(new ObjectValidationContext<T>(context, getCompletePath(), String.format("%s[%s]",
-                        getCompletePath(), index++), element));
+                if (isStopped()) {
+                    break;
+                }
+
+                ValidationResult validationResult = validator.validate(new ObjectValidationContext<T>(context, result(),
+                        result().getPath().index(index++), element));
                 register(validationResult);
             }
         }
@@ -37,9 +63,253 @@ public class CollectionValidationContext<T> extends ValidationContext<Collection
         registerWhenItemIsNullButNotOptional();
         return this;
     }
-    
+
+    public CollectionValidationContext<T> evaluateEachItem(String context, ValidateResultEvaluator<ObjectValidationContext<T>> validator,
+            CollectionAggregate<T> aggregate) {
+        return validateEachItem(context, o -> validator.validate(o).result(), aggregate);
+    }
+
+    public CollectionValidationContext<T> validateEachItem(String context, Validator<ObjectValidationContext<T>> validator, CollectionAggregate<T> aggregate) {
+        if (validator == null) {
+            throw new IllegalArgumentException("validator is missing");
+        }
+
+        return traverse(context, validator, aggregate);
+    }
+
+    public CollectionValidationContext<T> validateAggregate(CollectionAggregate<T> aggregate) {
+        return traverse(null, null, aggregate);
+    }
+
+    private CollectionValidationContext<T> traverse(String context, Validator<ObjectValidationContext<T>> validator, CollectionAggregate<T> aggregate) {
+        if (aggregate == null) {
+            throw new IllegalArgumentException("aggregate is missing");
+        }
+
+        if (isStopped()) {
+            return this;
+        }
+
+        if (!isCurrentToBeCheckedItemNull()) {
+            CollectionAggregateRule.Accumulator<T>[] accumulators = aggregate.start();
+            int index = 0;
+            for (T element : getCurrentItemToBeChecked()) {
+                if (isStopped()) {
+                    return this;
+                }
+
+                if (validator != null) {
+                    register(validator.validate(new ObjectValidationContext<T>(context, result(), result().getPath().index(index), element)));
+                }
+
+                for (CollectionAggregateRule.Accumulator<T> accumulator : accumulators) {
+                    accumulator.accept(index, element);
+                }
+                index++;
+            }
+
+            for (CollectionAggregateRule.Accumulator<T> accumulator : accumulators) {
+                if (isStopped()) {
+                    break;
+                }
+
+                accumulator.conclude(this);
+            }
+        }
+
+        registerWhenItemIsNullButNotOptional();
+        return this;
+    }
+
+    public CollectionValidationContext<T> evaluateEachItemInParallel(String context, ValidateResultEvaluator<ObjectValidationContext<T>> validator) {
+        return validateEachItemInParallel(context, o -> validator.validate(o).result());
+    }
+
+    public CollectionValidationContext<T> validateEachItemInParallel(String context, Validator<ObjectValidationContext<T>> validator) {
+        return validateEachItemInParallel(context, validator, DEFAULT_PARALLEL_THRESHOLD, ForkJoinPool.commonPool());
+    }
+
+    public CollectionValidationContext<T> validateEachItemInParallel(String context, Validator<ObjectValidationContext<T>> validator, int threshold,
+            Executor executor) {
+        if (validator == null) {
+            throw new IllegalArgumentException("validator is missing");
+        }
+
+        if (executor == null) {
+            throw new IllegalArgumentException("executor is missing");
+        }
+
+        if (isStopped()) {
+            return this;
+        }
+
+        if (isCurrentToBeCheckedItemNull() || getCurrentItemToBeChecked().size() < Math.max(threshold, 2)) {
+            return validateEachItem(context, validator);
+        }
+
+        Object[] elements = getCurrentItemToBeChecked().toArray();
+        ParallelValidation.validate(result(), elements.length, executor, (parent, index) -> validateItem(context, validator, parent, index, elements));
+
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ValidationResult validateItem(String context, Validator<ObjectValidationContext<T>> validator, ValidationResult parent, int index,
+            Object[] elements) {
+        return validator.validate(new ObjectValidationContext<T>(context, parent, parent.getPath().index(index), (T) elements[index]));
+    }
+
+    public CollectionValidationContext<T> failWhenHasDuplicate() {
+        return failWhenHasDuplicate(o -> o);
+    }
+
+    public <K> CollectionValidationContext<T> failWhenHasDuplicate(Function<? super T, K> keyExtractor) {
+        if (keyExtractor == null) {
+            throw new IllegalArgumentException("key extractor is missing");
+        }
+
+        if (isStopped()) {
+            return this;
+        }
+
+        if (!isCurrentToBeCheckedItemNull()) {
+            ObjectHashSet<K> keys = new ObjectHashSet<K>(getCurrentItemToBeChecked().size());
+            int index = 0;
+            for (T element : getCurrentItemToBeChecked()) {
+                if (isStopped()) {
+                    break;
+                }
+
+                K key = keyExtractor.apply(element);
+                if (!keys.add(key)) {
+                    registerFailureAt(index, DUPLICATE, "has duplicate", key);
+                }
+                index++;
+            }
+        }
+
+        registerWhenItemIsNullButNotOptional();
+        return this;
+    }
+
+    public CollectionValidationContext<T> failWhenHasDuplicateInt(ToIntFunction<? super T> keyExtractor) {
+        if (keyExtractor == null) {
+            throw new IllegalArgumentException("key extractor is missing");
+        }
+
+        if (isStopped()) {
+            return this;
+        }
+
+        if (!isCurrentToBeCheckedItemNull()) {
+            IntHashSet keys = new IntHashSet(getCurrentItemToBeChecked().size());
+            int index = 0;
+            for (T element : getCurrentItemToBeChecked()) {
+                if (isStopped()) {
+                    break;
+                }
+
+                int key = keyExtractor.applyAsInt(element);
+                if (!keys.add(key)) {
+                    registerFailureAt(index, DUPLICATE, "has duplicate", key);
+                }
+                index++;
+            }
+        }
+
+        registerWhenItemIsNullButNotOptional();
+        return this;
+    }
+
+    public CollectionValidationContext<T> failWhenHasDuplicateLong(ToLongFunction<? super T> keyExtractor) {
+        if (keyExtractor == null) {
+            throw new IllegalArgumentException("key extractor is missing");
+        }
+
+        if (isStopped()) {
+            return this;
+        }
+
+        if (!isCurrentToBeCheckedItemNull()) {
+            LongHashSet keys = new LongHashSet(getCurrentItemToBeChecked().size());
+            int index = 0;
+            for (T element : getCurrentItemToBeChecked()) {
+                if (isStopped()) {
+                    break;
+                }
+
+                long key = keyExtractor.applyAsLong(element);
+                if (!keys.add(key)) {
+                    registerFailureAt(index, DUPLICATE, "has duplicate", key);
+                }
+                index++;
+            }
+        }
+
+        registerWhenItemIsNullButNotOptional();
+        return this;
+    }
+
+    /**
+     * Finds the same duplicates as {@link #failWhenHasDuplicate(Function)} for collections with few duplicates using far
+     * less memory. A first pass puts the hash codes of the keys in a Bloom filter and only keeps the keys that may have
+     * been seen before, and a second pass checks those exactly.
+     */
+    public <K> CollectionValidationContext<T> failWhenHasDuplicateUsingBloomFilter(Function<? super T, K> keyExtractor) {
+        if (keyExtractor == null) {
+            throw new IllegalArgumentException("key extractor is missing");
+        }
+
+        if (isStopped()) {
+            return this;
+        }
+
+        if (!isCurrentToBeCheckedItemNull()) {
+            Collection<T> elements = getCurrentItemToBeChecked();
+            BloomFilter<Integer> hashCodes = BloomFilter.create(Funnels.integerFunnel(), Math.max(1, elements.size()), BLOOM_FILTER_FALSE_POSITIVE_PROBABILITY);
+            ObjectHashSet<K> candidates = new ObjectHashSet<K>(16);
+            for (T element : elements) {
+                K key = keyExtractor.apply(element);
+                Integer hashCode = key == null ? 0 : key.hashCode();
+                if (hashCodes.mightContain(hashCode)) {
+                    candidates.add(key);
+                } else {
+                    hashCodes.put(hashCode);
+                }
+            }
+
+            if (candidates.size() > 0) {
+                ObjectHashSet<K> keys = new ObjectHashSet<K>(candidates.size());
+                int index = 0;
+                for (T element : elements) {
+                    if (isStopped()) {
+                        break;
+                    }
+
+                    K key = keyExtractor.apply(element);
+                    if (candidates.contains(key) && !keys.add(key)) {
+                        registerFailureAt(index, DUPLICATE, "has duplicate", key);
+                    }
+                    index++;
+                }
+            }
+        }
+
+        registerWhenItemIsNullButNotOptional();
+        return this;
+    }
+
+    void registerAggregateFailure(String failureCode, String message, Object... objects) {
+        result().registerValidationFailure(failureCode, message, objects);
+    }
+
+    void registerFailureAt(int index, String failureCode, String message, Object item) {
+        ValidationResult validationResult = new ValidationResult(getContext(), result().getPath(), result().getPath().index(index), result().getRun());
+        validationResult.registerValidationFailure(failureCode, message, item);
+        register(validationResult);
+    }
+
     // failWhenHas
     // failWhenHasNot
-    // failWhenHasDuplicate
 
 }
@@ -0,0 +1,52 @@
+package dk.emstar.common.validation;
+
+/**
+ * The checks of a collection property as plain data: whether it may be missing or empty, the plan applied to each item
+ * and the aggregate constraints checked in the same traversal. A plan is immutable and can be shared.
+ */
+public final class CollectionValidationPlan<V> {
+    private final boolean optional;
+    private final boolean failWhenMissing;
+    private final boolean failWhenEmpty;
+    private final String itemContext;
+    private final ValidationPlan<V> itemPlan;
+    private final CollectionAggregate<V> aggregate;
+
+    CollectionValidationPlan(boolean optional, boolean failWhenMissing, boolean failWhenEmpty, String itemContext, ValidationPlan<V> itemPlan,
+            CollectionAggregate<V> aggregate) {
+        this.optional = optional;
+        this.failWhenMissing = failWhenMissing;
+        this.failWhenEmpty = failWhenEmpty;
+        this.itemContext = itemContext;
+        this.itemPlan = itemPlan;
+        this.aggregate = aggregate;
+    }
+
+    public static <V> CollectionValidationPlanBuilder<V> builder() {
+        return new CollectionValidationPlanBuilder<V>();
+    }
+
+    ValidationResult apply(CollectionValidationContext<V> validationContext) {
+        if (optional) {
+            validationContext.asOptional();
+        }
+
+        if (failWhenMissing) {
+            validationContext.failWhenMissing();
+        }
+
+        if (failWhenEmpty) {
+            validationContext.failWhenEmpty();
+        }
+
+        if (itemPlan != null && aggregate != null) {
+            validationContext.validateEachItem(itemContext, itemPlan, aggregate);
+        } else if (itemPlan != null) {
+            validationContext.validateEachItem(itemContext, itemPlan);
+        } else if (aggregate != null) {
+            validationContext.validateAggregate(aggregate);
+        }
+
+        return validationContext.result();
+    }
+}
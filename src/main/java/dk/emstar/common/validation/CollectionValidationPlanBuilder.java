@@ -0,0 +1,51 @@
+package dk.emstar.common.validation;
+
+public class CollectionValidationPlanBuilder<V> {
+    private boolean optional;
+    private boolean failWhenMissing;
+    private boolean failWhenEmpty;
+    private String itemContext;
+    private ValidationPlan<V> itemPlan;
+    private CollectionAggregate<V> aggregate;
+
+    CollectionValidationPlanBuilder() {
+    }
+
+    public CollectionValidationPlanBuilder<V> asOptional() {
+        optional = true;
+        return this;
+    }
+
+    public CollectionValidationPlanBuilder<V> failWhenMissing() {
+        failWhenMissing = true;
+        return this;
+    }
+
+    public CollectionValidationPlanBuilder<V> failWhenEmpty() {
+        failWhenEmpty = true;
+        return this;
+    }
+
+    public CollectionValidationPlanBuilder<V> validateEachItem(String context, ValidationPlan<V> plan) {
+        if (plan == null) {
+            throw new IllegalArgumentException("plan is missing");
+        }
+
+        itemContext = context;
+        itemPlan = plan;
+        return this;
+    }
+
+    public CollectionValidationPlanBuilder<V> validateAggregate(CollectionAggregate<V> aggregate) {
+        if (aggregate == null) {
+            throw new IllegalArgumentException("aggregate is missing");
+        }
+
+        this.aggregate = aggregate;
+        return this;
+    }
+
+    public CollectionValidationPlan<V> build() {
+        return new CollectionValidationPlan<V>(optional, failWhenMissing, failWhenEmpty, itemContext, itemPlan, aggregate);
+    }
+}
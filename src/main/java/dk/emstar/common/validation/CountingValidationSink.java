@@ -0,0 +1,51 @@
+package dk.emstar.common.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+public class CountingValidationSink implements ValidationSink {
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder warningCount = new LongAdder();
+    private final int maximumFailures;
+    private final List<ValidationRegistration> failures;
+
+    public CountingValidationSink(int maximumFailures) {
+        if (maximumFailures < 0) {
+            throw new IllegalArgumentException("maximum failures is negative");
+        }
+
+        this.maximumFailures = maximumFailures;
+        this.failures = new ArrayList<ValidationRegistration>(Math.min(maximumFailures, 16));
+    }
+
+    @Override
+    public void accept(ValidationRegistration validationRegistration) {
+        if (ValidationLevel.Failure.equals(validationRegistration.getValidationLevel())) {
+            failureCount.increment();
+            if (maximumFailures > 0) {
+                synchronized (failures) {
+                    if (failures.size() < maximumFailures) {
+                        failures.add(validationRegistration);
+                    }
+                }
+            }
+        } else if (ValidationLevel.Warning.equals(validationRegistration.getValidationLevel())) {
+            warningCount.increment();
+        }
+    }
+
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    public long getWarningCount() {
+        return warningCount.sum();
+    }
+
+    public List<ValidationRegistration> getFirstFailures() {
+        synchronized (failures) {
+            return new ArrayList<ValidationRegistration>(failures);
+        }
+    }
+}
@@ -1,9 +1,30 @@
 package dk.emstar.common.validation;
 
 public class DefaultValidationFactory implements ValidationFactory {
+    private final ValidationOptions options;
+
+    public DefaultValidationFactory() {
+        this(ValidationOptions.DEFAULT);
+    }
+
+    public DefaultValidationFactory(ValidationMode validationMode) {
+        this(ValidationOptions.DEFAULT.withValidationMode(validationMode));
+    }
+
+    public DefaultValidationFactory(ValidationOptions options) {
+        if (options == null) {
+            throw new IllegalArgumentException("options are missing");
+        }
+
+        this.options = options;
+    }
 
     @Override
     public <T> ObjectValidationContext<T> validate(String context, T itemToBeValidated) {
-        return new ObjectValidationContext<T>(context, itemToBeValidated);
+        return new ObjectValidationContext<T>(context, itemToBeValidated, options);
+    }
+
+    public ValidationOptions getOptions() {
+        return options;
     }
 }
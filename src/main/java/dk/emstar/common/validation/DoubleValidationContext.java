@@ -0,0 +1,128 @@
+package dk.emstar.common.validation;
+
+import java.util.function.DoublePredicate;
+
+/**
+ * A value that is not a number fails every comparison, and bounds that are not a number are rejected.
+ */
+public class DoubleValidationContext extends PrimitiveValidationContext<DoubleValidationContext> {
+    private final double currentItemToBeChecked;
+
+    public DoubleValidationContext(String context, String contextPath, String location, double currentItemToBeChecked) {
+        super(context, contextPath, location);
+        this.currentItemToBeChecked = currentItemToBeChecked;
+    }
+
+    public DoubleValidationContext(String context, ValidationResult parent, ValidationPath location, double currentItemToBeChecked) {
+        super(context, parent, location);
+        this.currentItemToBeChecked = currentItemToBeChecked;
+    }
+
+    public DoubleValidationContext failWhen(DoublePredicate predicate, String failureCode, String message) {
+        if (isStopped()) {
+            return this;
+        }
+
+        if(predicate == null) {
+            throw new IllegalArgumentException("predicate is missing");
+        }
+
+        if (predicate.test(currentItemToBeChecked)) {
+            registerAsFailure(failureCode, message, currentItemToBeChecked);
+        }
+
+        return this;
+    }
+
+    public DoubleValidationContext failWhenLessThan(double minimum) {
+        if (isStopped()) {
+            return this;
+        }
+
+        if (Double.isNaN(minimum)) {
+            throw new IllegalArgumentException("minimum is not a number");
+        }
+
+        if (!(currentItemToBeChecked >= minimum)) {
+            registerAsFailure(LESS_THAN, "less than", currentItemToBeChecked, minimum);
+        }
+
+        return this;
+    }
+
+    public DoubleValidationContext failWhenGreaterThan(double maximum) {
+        if (isStopped()) {
+            return this;
+        }
+
+        if (Double.isNaN(maximum)) {
+            throw new IllegalArgumentException("maximum is not a number");
+        }
+
+        if (!(currentItemToBeChecked <= maximum)) {
+            registerAsFailure(GREATER_THAN, "greater than", currentItemToBeChecked, maximum);
+        }
+
+        return this;
+    }
+
+    public DoubleValidationContext failWhenNegative() {
+        return failWhenLessThan(0);
+    }
+
+    public DoubleValidationContext failWhenBetween(double begin, double end) {
+        if (isStopped()) {
+            return this;
+        }
+
+        checkBounds(begin, end);
+
+        if (Double.isNaN(currentItemToBeChecked)) {
+            registerAsFailure(NOT_FINITE, "not finite", currentItemToBeChecked);
+        } else if (begin <= currentItemToBeChecked && currentItemToBeChecked <= end) {
+            registerAsFailure(BETWEEN, "between", currentItemToBeChecked, begin, end);
+        }
+
+        return this;
+    }
+
+    public DoubleValidationContext failWhenNotBetween(double begin, double end) {
+        if (isStopped()) {
+            return this;
+        }
+
+        checkBounds(begin, end);
+
+        if (!(begin <= currentItemToBeChecked && currentItemToBeChecked <= end)) {
+            registerAsFailure(NOT_BETWEEN, "not in between", currentItemToBeChecked, begin, end);
+        }
+
+        return this;
+    }
+
+    public DoubleValidationContext failWhenNotFinite() {
+        if (isStopped()) {
+            return this;
+        }
+
+        if (Double.isNaN(currentItemToBeChecked) || Double.isInfinite(currentItemToBeChecked)) {
+            registerAsFailure(NOT_FINITE, "not finite", currentItemToBeChecked);
+        }
+
+        return this;
+    }
+
+    private static void checkBounds(double begin, double end) {
+        if (Double.isNaN(begin) || Double.isNaN(end)) {
+            throw new IllegalArgumentException("begin or end is not a number");
+        }
+
+        if (begin > end) {
+            throw new IllegalArgumentException("begin is after end");
+        }
+    }
+
+    public double getCurrentItemToBeChecked() {
+        return currentItemToBeChecked;
+    }
+}
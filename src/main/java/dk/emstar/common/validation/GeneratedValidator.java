@@ -0,0 +1,54 @@
+package dk.emstar.common.validation;
+
+/**
+ * The base of the validators generated from a {@link ValidationPlan} by {@link ValidationPlan#compile()}. The
+ * generated code registers directly into the result of the validated item and only builds paths when something is
+ * registered.
+ */
+public abstract class GeneratedValidator<T> implements Validator<ObjectValidationContext<T>> {
+
+    @Override
+    public ValidationResult validate(ObjectValidationContext<T> validationContext) {
+        ValidationResult result = validationContext.result();
+        validate(validationContext.getCurrentItemToBeChecked(), validationContext.isOptional(), result);
+        return result;
+    }
+
+    protected abstract void validate(T item, boolean optional, ValidationResult result);
+
+    protected static void registerMissing(ValidationResult result, String[] segments) {
+        result.register(new ValidationRegistration(ValidationResultProvider.MISSING, "is null", getContext(result, segments),
+                getLocation(result, segments), getPath(result, segments), ValidationLevel.Failure));
+    }
+
+    protected static void registerTooLong(ValidationResult result, String[] segments, String input) {
+        result.register(new ValidationRegistration(ValidationResultProvider.TOO_LONG, "too long", getContext(result, segments),
+                getLocation(result, segments), getPath(result, segments), ValidationLevel.Failure, input));
+    }
+
+    protected static void registerNotMarkedAsOptional(ValidationResult result, String[] segments) {
+        result.registerNotMarkedAsOptional(getContext(result, segments), getLocation(result, segments), getPath(result, segments));
+    }
+
+    private static String getContext(ValidationResult result, String[] segments) {
+        return segments.length == 0 ? result.getContext() : segments[segments.length - 1];
+    }
+
+    private static ValidationPath getLocation(ValidationResult result, String[] segments) {
+        ValidationPath location = result.getLocationPath();
+        for (String segment : segments) {
+            location = location.child(segment);
+        }
+
+        return location;
+    }
+
+    private static ValidationPath getPath(ValidationResult result, String[] segments) {
+        ValidationPath path = result.getPath();
+        for (String segment : segments) {
+            path = path.child(segment);
+        }
+
+        return path;
+    }
+}
@@ -0,0 +1,14 @@
+package dk.emstar.common.validation;
+
+import java.time.Instant;
+
+public class InstantValidationContext extends TemporalValidationContext<InstantValidationContext, Instant> {
+
+    public InstantValidationContext(String context, String contextPath, String location, Instant currentItemToBeChecked) {
+        super(context, contextPath, location, currentItemToBeChecked, TemporalNormalizer.INSTANT);
+    }
+
+    public InstantValidationContext(String context, ValidationResult parent, ValidationPath location, Instant currentItemToBeChecked) {
+        super(context, parent, location, currentItemToBeChecked, TemporalNormalizer.INSTANT);
+    }
+}
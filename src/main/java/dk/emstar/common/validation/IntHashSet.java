@@ -0,0 +1,55 @@
+package dk.emstar.common.validation;
+
+/**
+ * An open addressing hash set of unboxed ints with linear probing. Zero marks an empty slot, so the key zero is kept in
+ * a flag of its own.
+ */
+final class IntHashSet {
+    private int[] keys;
+    private int mask;
+    private int size;
+    private boolean containsZero;
+
+    IntHashSet(int expectedSize) {
+        keys = new int[ObjectHashSet.capacity(expectedSize)];
+        mask = keys.length - 1;
+    }
+
+    boolean add(int key) {
+        if (key == 0) {
+            boolean added = !containsZero;
+            containsZero = true;
+            return added;
+        }
+
+        int index = ObjectHashSet.mix(key) & mask;
+        for (int current = keys[index]; current != 0; current = keys[index]) {
+            if (current == key) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        if (++size * 2 > keys.length) {
+            resize();
+        }
+
+        return true;
+    }
+
+    private void resize() {
+        int[] oldKeys = keys;
+        keys = new int[oldKeys.length * 2];
+        mask = keys.length - 1;
+        for (int key : oldKeys) {
+            if (key != 0) {
+                int index = ObjectHashSet.mix(key) & mask;
+                while (keys[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+            }
+        }
+    }
+}
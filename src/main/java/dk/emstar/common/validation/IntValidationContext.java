@@ -0,0 +1,97 @@
+package dk.emstar.common.validation;
+
+import java.util.function.IntPredicate;
+
+public class IntValidationContext extends PrimitiveValidationContext<IntValidationContext> {
+    private final int currentItemToBeChecked;
+
+    public IntValidationContext(String context, String contextPath, String location, int currentItemToBeChecked) {
+        super(context, contextPath, location);
+        this.currentItemToBeChecked = currentItemToBeChecked;
+    }
+
+    public IntValidationContext(String context, ValidationResult parent, ValidationPath location, int currentItemToBeChecked) {
+        super(context, parent, location);
+        this.currentItemToBeChecked = currentItemToBeChecked;
+    }
+
+    public IntValidationContext failWhen(IntPredicate predicate, String failureCode, String message) {
+        if (isStopped()) {
+            return this;
+        }
+
+        if(predicate == null) {
+            throw new IllegalArgumentException("predicate is missing");
+        }
+
+        if (predicate.test(currentItemToBeChecked)) {
+            registerAsFailure(failureCode, message, currentItemToBeChecked);
+        }
+
+        return this;
+    }
+
+    public IntValidationContext failWhenLessThan(int minimum) {
+        if (isStopped()) {
+            return this;
+        }
+
+        if (currentItemToBeChecked < minimum) {
+            registerAsFailure(LESS_THAN, "less than", currentItemToBeChecked, minimum);
+        }
+
+        return this;
+    }
+
+    public IntValidationContext failWhenGreaterThan(int maximum) {
+        if (isStopped()) {
+            return this;
+        }
+
+        if (currentItemToBeChecked > maximum) {
+            registerAsFailure(GREATER_THAN, "greater than", currentItemToBeChecked, maximum);
+        }
+
+        return this;
+    }
+
+    public IntValidationContext failWhenNegative() {
+        return failWhenLessThan(0);
+    }
+
+    public IntValidationContext failWhenBetween(int begin, int end) {
+        if (isStopped()) {
+            return this;
+        }
+
+        if (begin > end) {
+            throw new IllegalArgumentException("begin is after end");
+        }
+
+        if (begin <= currentItemToBeChecked && currentItemToBeChecked <= end) {
+            registerAsFailure(BETWEEN, "between", currentItemToBeChecked, begin, end);
+        }
+
+        return this;
+    }
+
+    public IntValidationContext failWhenNotBetween(int begin, int end) {
+        if (isStopped()) {
+            return this;
+        }
+
+        if (begin > end) {
+            throw new IllegalArgumentException("begin is after end");
+        }
+
+        if (!(begin <= currentItemToBeChecked && currentItemToBeChecked <= end)) {
+            registerAsFailure(NOT_BETWEEN, "not in between", currentItemToBeChecked, begin, end);
+        }
+
+        return this;
+    }
+
+    public int getCurrentItemToBeChecked() {
+        return currentItemToBeChecked;
+    }
+}
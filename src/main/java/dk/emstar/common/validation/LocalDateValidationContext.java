@@ -0,0 +1,14 @@
+package dk.emstar.common.validation;
+
+import java.time.LocalDate;
+
+public class LocalDateValidationContext extends TemporalValidationContext<LocalDateValidationContext, LocalDate> {
+
+    public LocalDateValidationContext(String context, String contextPath, String location, LocalDate currentItemToBeChecked) {
+        super(context, contextPath, location, currentItemToBeChecked, TemporalNormalizer.LOCAL_DATE);
+    }
+
+    public LocalDateValidationContext(String context, ValidationResult parent, ValidationPath location, LocalDate currentItemToBeChecked) {
+        super(context, parent, location, currentItemToBeChecked, TemporalNormalizer.LOCAL_DATE);
+    }
+}
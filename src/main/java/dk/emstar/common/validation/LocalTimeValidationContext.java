@@ -0,0 +1,14 @@
+package dk.emstar.common.validation;
+
+import java.time.LocalTime;
+
+public class LocalTimeValidationContext extends TemporalValidationContext<LocalTimeValidationContext, LocalTime> {
+
+    public LocalTimeValidationContext(String context, String contextPath, String location, LocalTime currentItemToBeChecked) {
+        super(context, contextPath, location, currentItemToBeChecked, TemporalNormalizer.LOCAL_TIME);
+    }
+
+    public LocalTimeValidationContext(String context, ValidationResult parent, ValidationPath location, LocalTime currentItemToBeChecked) {
+        super(context, parent, location, currentItemToBeChecked, TemporalNormalizer.LOCAL_TIME);
+    }
+}
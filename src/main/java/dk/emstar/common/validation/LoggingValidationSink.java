@@ -0,0 +1,26 @@
+package dk.emstar.common.validation;
+
+import org.slf4j.Logger;
+
+public class LoggingValidationSink implements ValidationSink {
+    private final Logger logger;
+
+    public LoggingValidationSink(Logger logger) {
+        if (logger == null) {
+            throw new IllegalArgumentException("logger is missing");
+        }
+
+        this.logger = logger;
+    }
+
+    @Override
+    public void accept(ValidationRegistration validationRegistration) {
+        if (ValidationLevel.Failure.equals(validationRegistration.getValidationLevel())) {
+            if (logger.isErrorEnabled()) {
+                logger.error(validationRegistration.getDetails());
+            }
+        } else if (logger.isWarnEnabled()) {
+            logger.warn(validationRegistration.getDetails());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package dk.emstar.common.validation;
+
+/**
+ * An open addressing hash set of unboxed longs with linear probing. Zero marks an empty slot, so the key zero is kept
+ * in a flag of its own.
+ */
+final class LongHashSet {
+    private long[] keys;
+    private int mask;
+    private int size;
+    private boolean containsZero;
+
+    LongHashSet(int expectedSize) {
+        keys = new long[ObjectHashSet.capacity(expectedSize)];
+        mask = keys.length - 1;
+    }
+
+    boolean add(long key) {
+        if (key == 0) {
+            boolean added = !containsZero;
+            containsZero = true;
+            return added;
+        }
+
+        int index = hash(key) & mask;
+        for (long current = keys[index]; current != 0; current = keys[index]) {
+            if (current == key) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        if (++size * 2 > keys.length) {
+            resize();
+        }
+
+        return true;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        keys = new long[oldKeys.length * 2];
+        mask = keys.length - 1;
+        for (long key : oldKeys) {
+            if (key != 0) {
+                int index = hash(key) & mask;
+                while (keys[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        return ObjectHashSet.mix((int) (key ^ (key >>> 32)));
+    }
+}
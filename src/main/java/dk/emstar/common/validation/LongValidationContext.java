@@ -0,0 +1,97 @@
+package dk.emstar.common.validation;
+
+import java.util.function.LongPredicate;
+
+public class LongValidationContext extends PrimitiveValidationContext<LongValidationContext> {
+    private final long currentItemToBeChecked;
+
+    public LongValidationContext(String context, String contextPath, String location, long currentItemToBeChecked) {
+        super(context, contextPath, location);
+        this.currentItemToBeChecked = currentItemToBeChecked;
+    }
+
+    public LongValidationContext(String context, ValidationResult parent, ValidationPath location, long currentItemToBeChecked) {
+        super(context, parent, location);
+        this.currentItemToBeChecked = currentItemToBeChecked;
+    }
+
+    public LongValidationContext failWhen(LongPredicate predicate, String failureCode, String message) {
+        if (isStopped()) {
+            return this;
+        }
+
+        if(predicate == null) {
+            throw new IllegalArgumentException("predicate is missing");
+        }
+
+        if (predicate.test(currentItemToBeChecked)) {
+            registerAsFailure(failureCode, message, currentItemToBeChecked);
+        }
+
+        return this;
+    }
+
+    public LongValidationContext failWhenLessThan(long minimum) {
+        if (isStopped()) {
+            return this;
+        }
+
+        if (currentItemToBeChecked < minimum) {
+            registerAsFailure(LESS_THAN, "less than", currentItemToBeChecked, minimum);
+        }
+
+        return this;
+    }
+
+    public LongValidationContext failWhenGreaterThan(long maximum) {
+        if (isStopped()) {
+            return this;
+        }
+
+        if (currentItemToBeChecked > maximum) {
+            registerAsFailure(GREATER_THAN, "greater than", currentItemToBeChecked, maximum);
+        }
+
+        return this;
+    }
+
+    public LongValidationContext failWhenNegative() {
+        return failWhenLessThan(0);
+    }
+
+    public LongValidationContext failWhenBetween(long begin, long end) {
+        if (isStopped()) {
+            return this;
+        }
+
+        if (begin > end) {
+            throw new IllegalArgumentException("begin is after end");
+        }
+
+        if (begin <= currentItemToBeChecked && currentItemToBeChecked <= end) {
+            registerAsFailure(BETWEEN, "between", currentItemToBeChecked, begin, end);
+        }
+
+        return this;
+    }
+
+    public LongValidationContext failWhenNotBetween(long begin, long end) {
+        if (isStopped()) {
+            return this;
+        }
+
+        if (begin > end) {
+            throw new IllegalArgumentException("begin is after end");
+        }
+
+        if (!(begin <= currentItemToBeChecked && currentItemToBeChecked <= end)) {
+            registerAsFailure(NOT_BETWEEN, "not in between", currentItemToBeChecked, begin, end);
+        }
+
+        return this;
+    }
+
+    public long getCurrentItemToBeChecked() {
+        return currentItemToBeChecked;
+    }
+}
@@ -0,0 +1,198 @@
+package dk.emstar.common.validation;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+public class MapValidationContext<K, V> extends ValidationContext<MapValidationContext<K, V>, Map<K, V>> {
+    public static final int DEFAULT_PARALLEL_THRESHOLD = CollectionValidationContext.DEFAULT_PARALLEL_THRESHOLD;
+
+    public MapValidationContext(String context, String contextPath, String location, Map<K, V> currentItemToBeChecked) {
+        super(context, contextPath, location, currentItemToBeChecked);
+    }
+
+    public MapValidationContext(String context, ValidationResult parent, ValidationPath location, Map<K, V> currentItemToBeChecked) {
+        super(context, parent, location, currentItemToBeChecked);
+    }
+
+    public MapValidationContext<K, V> failWhenEmpty() {
+        if (isStopped()) {
+            return this;
+        }
+
+        if (!isCurrentToBeCheckedItemNull()) {
+            if (getCurrentItemToBeChecked().isEmpty()) {
+                result().registerValidationFailure(IS_EMPTY, "is empty", getCurrentItemToBeChecked());
+            }
+        }
+
+        registerWhenItemIsNullButNotOptional();
+
+        return this;
+    }
+
+    public MapValidationContext<K, V> failWhenMissingKey(K key) {
+        if (isStopped()) {
+            return this;
+        }
+
+        if (!isCurrentToBeCheckedItemNull() && !getCurrentItemToBeChecked().containsKey(key)) {
+            result().registerValidationFailure(MISSING_KEY, "key is missing", key);
+        }
+
+        registerWhenItemIsNullButNotOptional();
+
+        return this;
+    }
+
+    public MapValidationContext<K, V> failWhenMissingKeys(Collection<? extends K> keys) {
+        if (keys == null) {
+            throw new IllegalArgumentException("keys are missing");
+        }
+
+        if (isStopped()) {
+            return this;
+        }
+
+        if (!isCurrentToBeCheckedItemNull()) {
+            Map<K, V> map = getCurrentItemToBeChecked();
+            for (K key : keys) {
+                if (!map.containsKey(key)) {
+                    result().registerValidationFailure(MISSING_KEY, "key is missing", key);
+                }
+            }
+        }
+
+        registerWhenItemIsNullButNotOptional();
+
+        return this;
+    }
+
+    public MapValidationContext<K, V> failWhenHasKey(K key) {
+        if (isStopped()) {
+            return this;
+        }
+
+        if (!isCurrentToBeCheckedItemNull() && getCurrentItemToBeChecked().containsKey(key)) {
+            result().registerValidationFailure(FORBIDDEN_KEY, "key is forbidden", key);
+        }
+
+        registerWhenItemIsNullButNotOptional();
+
+        return this;
+    }
+
+    public MapValidationContext<K, V> failWhenHasKeys(Collection<? extends K> keys) {
+        if (keys == null) {
+            throw new IllegalArgumentException("keys are missing");
+        }
+
+        if (isStopped()) {
+            return this;
+        }
+
+        if (!isCurrentToBeCheckedItemNull()) {
+            Map<K, V> map = getCurrentItemToBeChecked();
+            for (K key : keys) {
+                if (map.containsKey(key)) {
+                    result().registerValidationFailure(FORBIDDEN_KEY, "key is forbidden", key);
+                }
+            }
+        }
+
+        registerWhenItemIsNullButNotOptional();
+
+        return this;
+    }
+
+    public MapValidationContext<K, V> evaluateEachKey(String context, ValidateResultEvaluator<ObjectValidationContext<K>> validator) {
+        return validateEachKey(context, o -> validator.validate(o).result());
+    }
+
+    public MapValidationContext<K, V> validateEachKey(String context, Validator<ObjectValidationContext<K>> validator) {
+        return validateEachEntry(context, validator, true);
+    }
+
+    public MapValidationContext<K, V> evaluateEachValue(String context, ValidateResultEvaluator<ObjectValidationContext<V>> validator) {
+        return validateEachValue(context, o -> validator.validate(o).result());
+    }
+
+    public MapValidationContext<K, V> validateEachValue(String context, Validator<ObjectValidationContext<V>> validator) {
+        return validateEachEntry(context, validator, false);
+    }
+
+    public MapValidationContext<K, V> validateEachKeyInParallel(String context, Validator<ObjectValidationContext<K>> validator) {
+        return validateEachKeyInParallel(context, validator, DEFAULT_PARALLEL_THRESHOLD, ForkJoinPool.commonPool());
+    }
+
+    public MapValidationContext<K, V> validateEachKeyInParallel(String context, Validator<ObjectValidationContext<K>> validator, int threshold,
+            Executor executor) {
+        return validateEachEntryInParallel(context, validator, threshold, executor, true);
+    }
+
+    public MapValidationContext<K, V> validateEachValueInParallel(String context, Validator<ObjectValidationContext<V>> validator) {
+        return validateEachValueInParallel(context, validator, DEFAULT_PARALLEL_THRESHOLD, ForkJoinPool.commonPool());
+    }
+
+    public MapValidationContext<K, V> validateEachValueInParallel(String context, Validator<ObjectValidationContext<V>> validator, int threshold,
+            Executor executor) {
+        return validateEachEntryInParallel(context, validator, threshold, executor, false);
+    }
+
+    private <E> MapValidationContext<K, V> validateEachEntry(String context, Validator<ObjectValidationContext<E>> validator, boolean keys) {
+        if (validator == null) {
+            throw new IllegalArgumentException("validator is missing");
+        }
+
+        if (isStopped()) {
+            return this;
+        }
+
+        if (!isCurrentToBeCheckedItemNull()) {
+            for (Entry<K, V> entry : getCurrentItemToBeChecked().entrySet()) {
+                if (isStopped()) {
+                    break;
+                }
+
+                register(validateEntry(context, validator, keys, result(), entry));
+            }
+        }
+
+        registerWhenItemIsNullButNotOptional();
+        return this;
+    }
+
+    private <E> MapValidationContext<K, V> validateEachEntryInParallel(String context, Validator<ObjectValidationContext<E>> validator, int threshold,
+            Executor executor, boolean keys) {
+        if (validator == null) {
+            throw new IllegalArgumentException("validator is missing");
+        }
+
+        if (executor == null) {
+            throw new IllegalArgumentException("executor is missing");
+        }
+
+        if (isStopped()) {
+            return this;
+        }
+
+        if (isCurrentToBeCheckedItemNull() || getCurrentItemToBeChecked().size() < Math.max(threshold, 2)) {
+            return validateEachEntry(context, validator, keys);
+        }
+
+        Object[] entries = getCurrentItemToBeChecked().entrySet().toArray();
+        ParallelValidation.validate(result(), entries.length, executor, (parent, index) -> validateEntry(context, validator, keys, parent, entries[index]));
+
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E> ValidationResult validateEntry(String context, Validator<ObjectValidationContext<E>> validator, boolean keys, ValidationResult parent,
+            Object entry) {
+        Entry<K, V> mapEntry = (Entry<K, V>) entry;
+        E element = (E) (keys ? mapEntry.getKey() : mapEntry.getValue());
+        return validator.validate(new ObjectValidationContext<E>(context, parent, parent.getPath().key(mapEntry.getKey()), element));
+    }
+}
@@ -0,0 +1,17 @@
+package dk.emstar.common.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The regular expression a string property has to match, see {@link StringValidationContext#failWhenNotMatching(java.util.regex.Pattern)}.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface Matching {
+    String value();
+}
@@ -0,0 +1,17 @@
+package dk.emstar.common.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The maximum length of a string property, see {@link StringValidationContext#failWhenLongerThan(int)}.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface MaxLength {
+    int value();
+}
@@ -0,0 +1,17 @@
+package dk.emstar.common.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The earliest allowed value of a date time property in ISO format, see {@link LocalDateTimeValidationContext#failWhenBefore(java.time.LocalDateTime)}.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface NotBefore {
+    String value();
+}
@@ -0,0 +1,89 @@
+package dk.emstar.common.validation;
+
+import java.util.Objects;
+
+/**
+ * A minimal open addressing hash set with linear probing, used for single pass duplicate detection. Hashes are kept
+ * next to the keys, so probing rarely calls {@link Object#equals(Object)}.
+ */
+final class ObjectHashSet<K> {
+    private static final Object NULL = new Object();
+
+    private Object[] keys;
+    private int[] hashes;
+    private int mask;
+    private int size;
+
+    ObjectHashSet(int expectedSize) {
+        int capacity = capacity(expectedSize);
+        keys = new Object[capacity];
+        hashes = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    boolean add(K key) {
+        Object item = key == null ? NULL : key;
+        int hash = mix(item.hashCode());
+        int index = hash & mask;
+        for (Object current = keys[index]; current != null; current = keys[index]) {
+            if (hashes[index] == hash && Objects.equals(current, item)) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = item;
+        hashes[index] = hash;
+        if (++size * 2 > keys.length) {
+            resize();
+        }
+
+        return true;
+    }
+
+    boolean contains(K key) {
+        Object item = key == null ? NULL : key;
+        int hash = mix(item.hashCode());
+        for (int index = hash & mask;; index = (index + 1) & mask) {
+            Object current = keys[index];
+            if (current == null) {
+                return false;
+            }
+
+            if (hashes[index] == hash && Objects.equals(current, item)) {
+                return true;
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void resize() {
+        Object[] oldKeys = keys;
+        int[] oldHashes = hashes;
+        keys = new Object[oldKeys.length * 2];
+        hashes = new int[oldKeys.length * 2];
+        mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int index = oldHashes[i] & mask;
+                while (keys[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                hashes[index] = oldHashes[i];
+            }
+        }
+    }
+
+    static int capacity(int expectedSize) {
+        return Integer.highestOneBit(Math.max(2, expectedSize) * 2 - 1) << 1;
+    }
+
+    static int mix(int hash) {
+        int result = hash * 0x9E3779B9;
+        return result ^ (result >>> 16);
+    }
+}
@@ -1,7 +1,17 @@
 package dk.emstar.common.validation;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
 import java.util.Collection;
+import java.util.Map;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 public class ObjectValidationContext<T> extends ValidationContext<ObjectValidationContext<T>, T> {
 
@@ -9,11 +19,23 @@ public class ObjectValidationContext<T> extends ValidationContext<ObjectValidati
         super(context, currentItemToBeChecked);
     }
 
+    public ObjectValidationContext(String context, T currentItemToBeChecked, ValidationOptions options) {
+        super(context, currentItemToBeChecked, options);
+    }
+
     public ObjectValidationContext(String context, String contextPath, String location, T currentItemToBeChecked) {
         super(context, contextPath, location, currentItemToBeChecked);
     }
 
+    public ObjectValidationContext(String context, ValidationResult parent, ValidationPath location, T currentItemToBeChecked) {
+        super(context, parent, location, currentItemToBeChecked);
+    }
+
     public <V> ObjectValidationContext<T> evaluate(Function<T, V> getter, ValidateResultEvaluator<V> validator) {
+        if (isStopped()) {
+            return this;
+        }
+
         if (!isCurrentToBeCheckedItemNull()) {
             if(getter == null) {
                 throw new IllegalArgumentException("getter is missing");
@@ -44,13 +66,45 @@ public class ObjectValidationContext<T> extends ValidationContext<ObjectValidati
             throw new IllegalArgumentException("validator is missing");
         }
 
+        if (isStopped()) {
+            return this;
+        }
+
+        if (!isCurrentToBeCheckedItemNull()) {
+            if(getter == null) {
+                throw new IllegalArgumentException("getter is missing");
+            }
+
+            CollectionValidationContext<V> validationContext = new CollectionValidationContext<V>(context, result(),
+                    buildCompleteLocation(context), getter.apply(getCurrentItemToBeChecked()));
+            ValidationResult result = validator.validate(validationContext);
+            result().register(result);
+        }
+        registerWhenItemIsNullButNotOptional();
+        return this;
+    }
+
+    public <K, V> ObjectValidationContext<T> evaluateMap(String context, Function<T, Map<K, V>> getter,
+            ValidateResultEvaluator<MapValidationContext<K, V>> validator) {
+        return validateMap(context, getter, o -> validator.validate(o).result());
+    }
+
+    public <K, V> ObjectValidationContext<T> validateMap(String context, Function<T, Map<K, V>> getter, Validator<MapValidationContext<K, V>> validator) {
+        if(validator == null) {
+            throw new IllegalArgumentException("validator is missing");
+        }
+
+        if (isStopped()) {
+            return this;
+        }
+
         if (!isCurrentToBeCheckedItemNull()) {
             if(getter == null) {
                 throw new IllegalArgumentException("getter is missing");
             }
 
-            CollectionValidationContext<V> validationContext = new CollectionValidationContext<V>(context, result().getCompletePath(),
-                    buildCompleteLocation(result().getLocation(), context), getter.apply(getCurrentItemToBeChecked()));
+            MapValidationContext<K, V> validationContext = new MapValidationContext<K, V>(context, result(),
+                    buildCompleteLocation(context), getter.apply(getCurrentItemToBeChecked()));
             ValidationResult result = validator.validate(validationContext);
             result().register(result);
         }
@@ -58,18 +112,265 @@ public class ObjectValidationContext<T> extends ValidationContext<ObjectValidati
         return this;
     }
 
+    public <V> ObjectValidationContext<T> validateCollection(String context, Function<T, Collection<V>> getter, CollectionValidationPlan<V> plan) {
+        if(plan == null) {
+            throw new IllegalArgumentException("plan is missing");
+        }
+
+        return validateCollection(context, getter, plan::apply);
+    }
+
+    public ObjectValidationContext<T> validateString(String context, Function<T, String> getter, StringValidationPlan plan) {
+        if(plan == null) {
+            throw new IllegalArgumentException("plan is missing");
+        }
+
+        if (isStopped()) {
+            return this;
+        }
+
+        if (!isCurrentToBeCheckedItemNull()) {
+            if(getter == null) {
+                throw new IllegalArgumentException("getter is missing");
+            }
+
+            StringValidationContext validationContext = new StringValidationContext(context, result(),
+                    buildCompleteLocation(context), getter.apply(getCurrentItemToBeChecked()));
+            result().register(plan.apply(validationContext));
+        }
+        registerWhenItemIsNullButNotOptional();
+        return this;
+    }
+
     public ObjectValidationContext<T> validateString(String context, Function<T, String> getter, ValidateResultEvaluator<StringValidationContext> validator) {
         if(validator == null) {
             throw new IllegalArgumentException("validator is missing");
         }
 
+        if (isStopped()) {
+            return this;
+        }
+
+        if (!isCurrentToBeCheckedItemNull()) {
+            if(getter == null) {
+                throw new IllegalArgumentException("getter is missing");
+            }
+
+            StringValidationContext validationContext = new StringValidationContext(context, result(),
+                    buildCompleteLocation(context), getter.apply(getCurrentItemToBeChecked()));
+            ValidationResult result = validator.validate(validationContext).result();
+            result().register(result);
+        }
+        registerWhenItemIsNullButNotOptional();
+        return this;
+    }
+
+    public ObjectValidationContext<T> validateLocalDateTime(String context, Function<T, LocalDateTime> getter,
+            ValidateResultEvaluator<LocalDateTimeValidationContext> validator) {
+        if(validator == null) {
+            throw new IllegalArgumentException("validator is missing");
+        }
+
+        if (isStopped()) {
+            return this;
+        }
+
+        if (!isCurrentToBeCheckedItemNull()) {
+            if(getter == null) {
+                throw new IllegalArgumentException("getter is missing");
+            }
+
+            LocalDateTimeValidationContext validationContext = new LocalDateTimeValidationContext(context, result(),
+                    buildCompleteLocation(context), getter.apply(getCurrentItemToBeChecked()));
+            ValidationResult result = validator.validate(validationContext).result();
+            result().register(result);
+        }
+        registerWhenItemIsNullButNotOptional();
+        return this;
+    }
+
+    public ObjectValidationContext<T> validateLocalDate(String context, Function<T, LocalDate> getter,
+            ValidateResultEvaluator<LocalDateValidationContext> validator) {
+        if(validator == null) {
+            throw new IllegalArgumentException("validator is missing");
+        }
+
+        if (isStopped()) {
+            return this;
+        }
+
         if (!isCurrentToBeCheckedItemNull()) {
             if(getter == null) {
                 throw new IllegalArgumentException("getter is missing");
             }
 
-            StringValidationContext validationContext = new StringValidationContext(context, result().getCompletePath(),
-                    buildCompleteLocation(result().getLocation(), context), getter.apply(getCurrentItemToBeChecked()));
+            LocalDateValidationContext validationContext = new LocalDateValidationContext(context, result(),
+                    buildCompleteLocation(context), getter.apply(getCurrentItemToBeChecked()));
+            ValidationResult result = validator.validate(validationContext).result();
+            result().register(result);
+        }
+        registerWhenItemIsNullButNotOptional();
+        return this;
+    }
+
+    public ObjectValidationContext<T> validateLocalTime(String context, Function<T, LocalTime> getter,
+            ValidateResultEvaluator<LocalTimeValidationContext> validator) {
+        if(validator == null) {
+            throw new IllegalArgumentException("validator is missing");
+        }
+
+        if (isStopped()) {
+            return this;
+        }
+
+        if (!isCurrentToBeCheckedItemNull()) {
+            if(getter == null) {
+                throw new IllegalArgumentException("getter is missing");
+            }
+
+            LocalTimeValidationContext validationContext = new LocalTimeValidationContext(context, result(),
+                    buildCompleteLocation(context), getter.apply(getCurrentItemToBeChecked()));
+            ValidationResult result = validator.validate(validationContext).result();
+            result().register(result);
+        }
+        registerWhenItemIsNullButNotOptional();
+        return this;
+    }
+
+    public ObjectValidationContext<T> validateInstant(String context, Function<T, Instant> getter,
+            ValidateResultEvaluator<InstantValidationContext> validator) {
+        if(validator == null) {
+            throw new IllegalArgumentException("validator is missing");
+        }
+
+        if (isStopped()) {
+            return this;
+        }
+
+        if (!isCurrentToBeCheckedItemNull()) {
+            if(getter == null) {
+                throw new IllegalArgumentException("getter is missing");
+            }
+
+            InstantValidationContext validationContext = new InstantValidationContext(context, result(),
+                    buildCompleteLocation(context), getter.apply(getCurrentItemToBeChecked()));
+            ValidationResult result = validator.validate(validationContext).result();
+            result().register(result);
+        }
+        registerWhenItemIsNullButNotOptional();
+        return this;
+    }
+
+    public ObjectValidationContext<T> validateZonedDateTime(String context, Function<T, ZonedDateTime> getter,
+            ValidateResultEvaluator<ZonedDateTimeValidationContext> validator) {
+        if(validator == null) {
+            throw new IllegalArgumentException("validator is missing");
+        }
+
+        if (isStopped()) {
+            return this;
+        }
+
+        if (!isCurrentToBeCheckedItemNull()) {
+            if(getter == null) {
+                throw new IllegalArgumentException("getter is missing");
+            }
+
+            ZonedDateTimeValidationContext validationContext = new ZonedDateTimeValidationContext(context, result(),
+                    buildCompleteLocation(context), getter.apply(getCurrentItemToBeChecked()));
+            ValidationResult result = validator.validate(validationContext).result();
+            result().register(result);
+        }
+        registerWhenItemIsNullButNotOptional();
+        return this;
+    }
+
+    public ObjectValidationContext<T> validateOffsetDateTime(String context, Function<T, OffsetDateTime> getter,
+            ValidateResultEvaluator<OffsetDateTimeValidationContext> validator) {
+        if(validator == null) {
+            throw new IllegalArgumentException("validator is missing");
+        }
+
+        if (isStopped()) {
+            return this;
+        }
+
+        if (!isCurrentToBeCheckedItemNull()) {
+            if(getter == null) {
+                throw new IllegalArgumentException("getter is missing");
+            }
+
+            OffsetDateTimeValidationContext validationContext = new OffsetDateTimeValidationContext(context, result(),
+                    buildCompleteLocation(context), getter.apply(getCurrentItemToBeChecked()));
+            ValidationResult result = validator.validate(validationContext).result();
+            result().register(result);
+        }
+        registerWhenItemIsNullButNotOptional();
+        return this;
+    }
+
+    public ObjectValidationContext<T> validateInt(String context, ToIntFunction<T> getter, ValidateResultEvaluator<IntValidationContext> validator) {
+        if(validator == null) {
+            throw new IllegalArgumentException("validator is missing");
+        }
+
+        if (isStopped()) {
+            return this;
+        }
+
+        if (!isCurrentToBeCheckedItemNull()) {
+            if(getter == null) {
+                throw new IllegalArgumentException("getter is missing");
+            }
+
+            IntValidationContext validationContext = new IntValidationContext(context, result(),
+                    buildCompleteLocation(context), getter.applyAsInt(getCurrentItemToBeChecked()));
+            ValidationResult result = validator.validate(validationContext).result();
+            result().register(result);
+        }
+        registerWhenItemIsNullButNotOptional();
+        return this;
+    }
+
+    public ObjectValidationContext<T> validateLong(String context, ToLongFunction<T> getter, ValidateResultEvaluator<LongValidationContext> validator) {
+        if(validator == null) {
+            throw new IllegalArgumentException("validator is missing");
+        }
+
+        if (isStopped()) {
+            return this;
+        }
+
+        if (!isCurrentToBeCheckedItemNull()) {
+            if(getter == null) {
+                throw new IllegalArgumentException("getter is missing");
+            }
+
+            LongValidationContext validationContext = new LongValidationContext(context, result(),
+                    buildCompleteLocation(context), getter.applyAsLong(getCurrentItemToBeChecked()));
+            ValidationResult result = validator.validate(validationContext).result();
+            result().register(result);
+        }
+        registerWhenItemIsNullButNotOptional();
+        return this;
+    }
+
+    public ObjectValidationContext<T> validateDouble(String context, ToDoubleFunction<T> getter, ValidateResultEvaluator<DoubleValidationContext> validator) {
+        if(validator == null) {
+            throw new IllegalArgumentException("validator is missing");
+        }
+
+        if (isStopped()) {
+            return this;
+        }
+
+        if (!isCurrentToBeCheckedItemNull()) {
+            if(getter == null) {
+                throw new IllegalArgumentException("getter is missing");
+            }
+
+            DoubleValidationContext validationContext = new DoubleValidationContext(context, result(),
+                    buildCompleteLocation(context), getter.applyAsDouble(getCurrentItemToBeChecked()));
             ValidationResult result = validator.validate(validationContext).result();
             result().register(result);
         }
@@ -78,14 +379,17 @@ public class ObjectValidationContext<T> extends ValidationContext<ObjectValidati
     }
 
     public ObjectValidationContext<T> validateString(String context, Function<T, String> getter, int length, Required required) {
+        if (isStopped()) {
+            return this;
+        }
 
         if (!isCurrentToBeCheckedItemNull()) {
             if(getter == null) {
                 throw new IllegalArgumentException("getter is missing");
             }
 
-            StringValidationContext validationContext = new StringValidationContext(context, result().getCompletePath(),
-                    buildCompleteLocation(result().getLocation(), context), getter.apply(getCurrentItemToBeChecked()));
+            StringValidationContext validationContext = new StringValidationContext(context, result(),
+                    buildCompleteLocation(context), getter.apply(getCurrentItemToBeChecked()));
 
             if(required == null) {
                 throw new IllegalArgumentException("required is missing");
@@ -112,23 +416,17 @@ public class ObjectValidationContext<T> extends ValidationContext<ObjectValidati
             throw new IllegalArgumentException("validator is missing");
         }
 
+        if (isStopped()) {
+            return this;
+        }
+
         if (!isCurrentToBeCheckedItemNull()) {
-            ObjectValidationContext<V> validationContext = new ObjectValidationContext<V>(context, result().getCompletePath(), buildCompleteLocation(
-                    result().getLocation(), context), getter.apply(getCurrentItemToBeChecked()));
+            ObjectValidationContext<V> validationContext = new ObjectValidationContext<V>(context, result(), buildCompleteLocation(context),
+                    getter.apply(getCurrentItemToBeChecked()));
             ValidationResult result = validator.validate(validationContext);
             result().register(result);
         }
         registerWhenItemIsNullButNotOptional();
         return this;
     }
-
-    // validateMap // has hasNot
-    // validateInt // between greaterThan greatherOrEqual lessThan or lessOrEqualThan
-    // validateLong  // between greaterThan greatherOrEqual lessThan or lessOrEqualThan
-    // validateLocalDate      // between later before
-    // validateLocalTime      // between later before
-    // validateZonedDate      // between later before
-    // validateZonedDateTime  // between later before
-    // validateZonedTime      // between later before
-
 }
@@ -0,0 +1,14 @@
+package dk.emstar.common.validation;
+
+import java.time.OffsetDateTime;
+
+public class OffsetDateTimeValidationContext extends TemporalValidationContext<OffsetDateTimeValidationContext, OffsetDateTime> {
+
+    public OffsetDateTimeValidationContext(String context, String contextPath, String location, OffsetDateTime currentItemToBeChecked) {
+        super(context, contextPath, location, currentItemToBeChecked, TemporalNormalizer.OFFSET_DATE_TIME);
+    }
+
+    public OffsetDateTimeValidationContext(String context, ValidationResult parent, ValidationPath location, OffsetDateTime currentItemToBeChecked) {
+        super(context, parent, location, currentItemToBeChecked, TemporalNormalizer.OFFSET_DATE_TIME);
+    }
+}
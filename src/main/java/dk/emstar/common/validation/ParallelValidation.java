@@ -0,0 +1,97 @@
+package dk.emstar.common.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Validates the items of a collection or map in chunks on an executor and registers their results in index order.
+ * In fail fast mode every item is validated against a run of its own, and only the results up to the first failing
+ * index are kept, so the outcome is the same as when the items are validated one by one.
+ */
+final class ParallelValidation {
+
+    @FunctionalInterface
+    interface ItemValidator {
+        ValidationResult validate(ValidationResult parent, int index);
+    }
+
+    private ParallelValidation() {
+    }
+
+    static void validate(ValidationResult parent, int count, Executor executor, ItemValidator itemValidator) {
+        boolean failFast = parent.getValidationOptions().isFailFast();
+        ValidationSink sink = parent.getValidationOptions().getSink();
+        ValidationResult[] validationResults = new ValidationResult[count];
+        List<List<ValidationRegistration>> sinkBuffers = failFast ? new ArrayList<List<ValidationRegistration>>(count) : null;
+        for (int i = 0; failFast && i < count; i++) {
+            sinkBuffers.add(null);
+        }
+        AtomicInteger firstFailure = new AtomicInteger(Integer.MAX_VALUE);
+
+        int parallelism = executor instanceof ForkJoinPool ? ((ForkJoinPool) executor).getParallelism() : Runtime.getRuntime().availableProcessors();
+        int chunkSize = Math.max(1, (count + parallelism * 4 - 1) / (parallelism * 4));
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[(count + chunkSize - 1) / chunkSize];
+        for (int chunk = 0; chunk < futures.length; chunk++) {
+            int from = chunk * chunkSize;
+            int to = Math.min(count, from + chunkSize);
+            futures[chunk] = CompletableFuture.runAsync(() -> {
+                if (failFast) {
+                    validateFailFast(parent, itemValidator, validationResults, sinkBuffers, firstFailure, from, to);
+                } else {
+                    for (int index = from; index < to && !parent.isStopped(); index++) {
+                        validationResults[index] = itemValidator.validate(parent, index);
+                    }
+                }
+            }, executor);
+        }
+
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+
+            throw e;
+        }
+
+        int last = failFast ? Math.min(count - 1, firstFailure.get()) : count - 1;
+        for (int index = 0; index <= last; index++) {
+            if (validationResults[index] != null) {
+                parent.register(validationResults[index]);
+            }
+
+            if (failFast && sink != null && sinkBuffers.get(index) != null) {
+                sinkBuffers.get(index).forEach(sink::accept);
+            }
+        }
+
+        if (failFast && firstFailure.get() != Integer.MAX_VALUE) {
+            parent.getRun().stop();
+        }
+    }
+
+    private static void validateFailFast(ValidationResult parent, ItemValidator itemValidator, ValidationResult[] validationResults,
+            List<List<ValidationRegistration>> sinkBuffers, AtomicInteger firstFailure, int from, int to) {
+        for (int index = from; index < to && index < firstFailure.get(); index++) {
+            List<ValidationRegistration> sinkBuffer = new ArrayList<ValidationRegistration>();
+            ValidationResult itemParent = new ValidationResult(parent.getContext(), parent.getPath(), parent.getLocationPath(),
+                    parent.getRun().detach(sinkBuffer::add));
+            ValidationResult validationResult = itemValidator.validate(itemParent, index);
+            validationResults[index] = validationResult;
+            sinkBuffers.set(index, sinkBuffer);
+            if (validationResult != null && validationResult.hasFailure()) {
+                firstFailure.accumulateAndGet(index, Math::min);
+            }
+        }
+    }
+}
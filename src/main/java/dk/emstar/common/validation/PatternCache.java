@@ -0,0 +1,116 @@
+package dk.emstar.common.validation;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * A bounded, thread safe cache of compiled regular expressions. Each thread keeps its own {@link Matcher} per pattern,
+ * so matching a cached pattern does not allocate a matcher. The matcher is reset after each match, so it does not keep
+ * the last input reachable. Simple patterns are matched by a {@link CharacterClass} instead of a matcher.
+ */
+public final class PatternCache {
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    private static final PatternCache DEFAULT = new PatternCache(DEFAULT_MAXIMUM_SIZE);
+
+    private final LoadingCache<String, CompiledPattern> patterns;
+
+    public PatternCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximum size must be positive");
+        }
+
+        patterns = CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .recordStats()
+            .build(new CacheLoader<String, CompiledPattern>() {
+                @Override
+                public CompiledPattern load(String regex) {
+                    return new CompiledPattern(Pattern.compile(regex), CharacterClass.parse(regex));
+                }
+            });
+    }
+
+    public static PatternCache getDefault() {
+        return DEFAULT;
+    }
+
+    public Pattern getPattern(String regex) {
+        return get(regex).pattern;
+    }
+
+    public boolean matches(String regex, CharSequence input) {
+        if (input == null) {
+            throw new IllegalArgumentException("input is missing");
+        }
+
+        CompiledPattern compiledPattern = get(regex);
+        if (compiledPattern.characterClass != null) {
+            return compiledPattern.characterClass.matches(input);
+        }
+
+        Matcher matcher = compiledPattern.matcher.get();
+        try {
+            return matcher.reset(input).matches();
+        } finally {
+            matcher.reset("");
+        }
+    }
+
+    public long getHitCount() {
+        return patterns.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return patterns.stats().missCount();
+    }
+
+    public long getEvictionCount() {
+        return patterns.stats().evictionCount();
+    }
+
+    public long size() {
+        return patterns.size();
+    }
+
+    @Override
+    public String toString() {
+        CacheStats stats = patterns.stats();
+        return String.format("{size:%s, hits:%s, misses:%s, evictions:%s}", patterns.size(), stats.hitCount(), stats.missCount(),
+                stats.evictionCount());
+    }
+
+    private CompiledPattern get(String regex) {
+        if (regex == null) {
+            throw new IllegalArgumentException("regex is missing");
+        }
+
+        try {
+            return patterns.getUnchecked(regex);
+        } catch (UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw e;
+        }
+    }
+
+    private static final class CompiledPattern {
+        private final Pattern pattern;
+        private final ThreadLocal<Matcher> matcher;
+        private final CharacterClass characterClass;
+
+        private CompiledPattern(Pattern pattern, CharacterClass characterClass) {
+            this.pattern = pattern;
+            this.characterClass = characterClass;
+            this.matcher = ThreadLocal.withInitial(() -> pattern.matcher(""));
+        }
+    }
+}
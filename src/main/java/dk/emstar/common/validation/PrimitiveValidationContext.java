@@ -0,0 +1,40 @@
+package dk.emstar.common.validation;
+
+/**
+ * Base of the validation contexts for primitive values. The value is held unboxed and is never missing, so these
+ * contexts have no notion of optional values; a value is only boxed when a failure is registered.
+ */
+public abstract class PrimitiveValidationContext<T extends PrimitiveValidationContext<T>> implements ValidationResultProvider {
+    private final ValidationResult validationResult;
+
+    protected PrimitiveValidationContext(String context, String contextPath, String location) {
+        this.validationResult = new ValidationResult(context, contextPath, location);
+    }
+
+    protected PrimitiveValidationContext(String context, ValidationResult parent, ValidationPath location) {
+        this.validationResult = new ValidationResult(context, parent.getPath().child(context), location, parent.getRun());
+    }
+
+    @Override
+    public ValidationResult result() {
+        return validationResult;
+    }
+
+    public String getContext() {
+        return validationResult.getContext();
+    }
+
+    public String getCompletePath() {
+        return validationResult.getCompletePath();
+    }
+
+    public boolean isStopped() {
+        return validationResult.isStopped();
+    }
+
+    @SuppressWarnings("unchecked")
+    protected T registerAsFailure(String failureCode, String message, Object... objects) {
+        validationResult.registerValidationFailure(failureCode, message, objects);
+        return (T) this;
+    }
+}
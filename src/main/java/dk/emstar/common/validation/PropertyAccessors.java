@@ -0,0 +1,132 @@
+package dk.emstar.common.validation;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Resolves bean properties by name into getters. A getter is resolved once per class and property and is generated
+ * with {@link LambdaMetafactory} when the class allows it, so it runs like a hand-written method reference. Otherwise
+ * it falls back to a {@link MethodHandle}.
+ */
+final class PropertyAccessors {
+
+    private static final ClassValue<ConcurrentMap<String, PropertyAccessor>> ACCESSORS = new ClassValue<ConcurrentMap<String, PropertyAccessor>>() {
+        @Override
+        protected ConcurrentMap<String, PropertyAccessor> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<String, PropertyAccessor>();
+        }
+    };
+
+    private PropertyAccessors() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, V> Function<T, V> getter(Class<T> type, String property) {
+        return (Function<T, V>) get(type, property).getter;
+    }
+
+    static Class<?> getType(Class<?> type, String property) {
+        return get(type, property).type;
+    }
+
+    private static PropertyAccessor get(Class<?> type, String property) {
+        if (type == null) {
+            throw new IllegalArgumentException("type is missing");
+        }
+
+        if (property == null) {
+            throw new IllegalArgumentException("property is missing");
+        }
+
+        return ACCESSORS.get(type).computeIfAbsent(property, o -> create(type, o));
+    }
+
+    private static PropertyAccessor create(Class<?> type, String property) {
+        Method readMethod = getReadMethod(type, property);
+        try {
+            MethodHandle methodHandle;
+            if (isAccessible(readMethod)) {
+                methodHandle = MethodHandles.lookup().unreflect(readMethod);
+                if (isVisible(readMethod.getDeclaringClass()) && isVisible(readMethod.getReturnType())) {
+                    return new PropertyAccessor(readMethod.getReturnType(), createLambda(methodHandle));
+                }
+            } else {
+                readMethod.setAccessible(true);
+                methodHandle = MethodHandles.lookup().unreflect(readMethod);
+            }
+
+            MethodHandle getter = methodHandle.asType(MethodType.methodType(Object.class, Object.class));
+            return new PropertyAccessor(readMethod.getReturnType(), o -> invoke(getter, o));
+        } catch (Throwable e) {
+            throw new IllegalArgumentException("property " + property + " cannot be read on " + type.getName(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> createLambda(MethodHandle methodHandle) throws Throwable {
+        CallSite callSite = LambdaMetafactory.metafactory(MethodHandles.lookup(), "apply", MethodType.methodType(Function.class),
+                MethodType.methodType(Object.class, Object.class), methodHandle, methodHandle.type().wrap());
+        return (Function<Object, Object>) callSite.getTarget().invoke();
+    }
+
+    private static Object invoke(MethodHandle getter, Object item) {
+        try {
+            return getter.invokeExact(item);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static Method getReadMethod(Class<?> type, String property) {
+        try {
+            for (PropertyDescriptor propertyDescriptor : Introspector.getBeanInfo(type).getPropertyDescriptors()) {
+                if (property.equals(propertyDescriptor.getName()) && propertyDescriptor.getReadMethod() != null) {
+                    return propertyDescriptor.getReadMethod();
+                }
+            }
+        } catch (IntrospectionException e) {
+            throw new IllegalArgumentException("type " + type.getName() + " cannot be introspected", e);
+        }
+
+        throw new IllegalArgumentException("property " + property + " is missing on " + type.getName());
+    }
+
+    private static boolean isAccessible(Method method) {
+        return Modifier.isPublic(method.getModifiers()) && Modifier.isPublic(method.getDeclaringClass().getModifiers());
+    }
+
+    private static boolean isVisible(Class<?> type) {
+        if (type.isPrimitive()) {
+            return true;
+        }
+
+        try {
+            return Class.forName(type.getName(), false, PropertyAccessors.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static final class PropertyAccessor {
+        private final Class<?> type;
+        private final Function<Object, Object> getter;
+
+        private PropertyAccessor(Class<?> type, Function<Object, Object> getter) {
+            this.type = type;
+            this.getter = getter;
+        }
+    }
+}
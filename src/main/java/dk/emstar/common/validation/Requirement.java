@@ -0,0 +1,17 @@
+package dk.emstar.common.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Whether a property is mandatory or optional, see {@link ValidationContext#failWhenMissing()} and {@link ValidationContext#asOptional()}.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface Requirement {
+    Required value();
+}
@@ -0,0 +1,113 @@
+package dk.emstar.common.validation;
+
+import java.util.Collection;
+
+/**
+ * An immutable set of strings for code tables and allow lists. It is an open addressing table with linear probing, so
+ * a lookup is a hash and usually a single comparison. It can be built to ignore case. Build one once for a large
+ * code table and pass it to {@link StringValidationContext#failWhenNotIn(StringLookup)} instead of the collection.
+ */
+public final class StringLookup {
+    private final String[] keys;
+    private final int[] hashes;
+    private final int mask;
+    private final int size;
+    private final boolean ignoreCase;
+
+    private StringLookup(Collection<? extends String> items, boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+
+        int capacity = ObjectHashSet.capacity(items.size());
+        keys = new String[capacity];
+        hashes = new int[capacity];
+        mask = capacity - 1;
+
+        int count = 0;
+        for (String item : items) {
+            if (item != null && add(item)) {
+                count++;
+            }
+        }
+        size = count;
+    }
+
+    public static StringLookup of(Collection<? extends String> items) {
+        if (items == null) {
+            throw new IllegalArgumentException("items are missing");
+        }
+
+        return new StringLookup(items, false);
+    }
+
+    public static StringLookup ofIgnoringCase(Collection<? extends String> items) {
+        if (items == null) {
+            throw new IllegalArgumentException("items are missing");
+        }
+
+        return new StringLookup(items, true);
+    }
+
+    public boolean contains(String item) {
+        if (item == null) {
+            return false;
+        }
+
+        int hash = hash(item);
+        for (int index = hash & mask;; index = (index + 1) & mask) {
+            String key = keys[index];
+            if (key == null) {
+                return false;
+            }
+
+            if (hashes[index] == hash && equal(key, item)) {
+                return true;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isIgnoringCase() {
+        return ignoreCase;
+    }
+
+    private boolean add(String item) {
+        int hash = hash(item);
+        int index = hash & mask;
+        while (keys[index] != null) {
+            if (hashes[index] == hash && equal(keys[index], item)) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = item;
+        hashes[index] = hash;
+        return true;
+    }
+
+    private boolean equal(String key, String item) {
+        return ignoreCase ? key.equalsIgnoreCase(item) : key.equals(item);
+    }
+
+    private int hash(String item) {
+        int hash;
+        if (ignoreCase) {
+            hash = 0;
+            for (int i = 0; i < item.length(); i++) {
+                hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(item.charAt(i)));
+            }
+        } else {
+            hash = item.hashCode();
+        }
+
+        return hash ^ (hash >>> 16);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("{size:%s, ignoreCase:%s}", size, ignoreCase);
+    }
+}
@@ -10,7 +10,15 @@ public class StringValidationContext extends ValidationContext<StringValidationC
         super(context, contextPath, location, currentItemToBeChecked);
     }
 
+    public StringValidationContext(String context, ValidationResult parent, ValidationPath location, String currentItemToBeChecked) {
+        super(context, parent, location, currentItemToBeChecked);
+    }
+
     public StringValidationContext failWhenLongerThan(int length) {
+        if (isStopped()) {
+            return this;
+        }
+
         if (!isCurrentToBeCheckedItemNull()) {
             if (getCurrentItemToBeChecked().length() > length) {
                 registerAsFailure(TOO_LONG, "too long", getCurrentItemToBeChecked());
@@ -23,19 +31,112 @@ public class StringValidationContext extends ValidationContext<StringValidationC
     }
 
     public StringValidationContext failWhenNotMatching(Pattern pattern) {
+        if (isStopped()) {
+            return this;
+        }
+
         if(pattern == null) {
             throw new IllegalArgumentException("pattern is missing");
         }
         
         if(!(isOptional() && isCurrentToBeCheckedItemNull()) && 
-                (isCurrentToBeCheckedItemNull() || !pattern.matcher(getCurrentItemToBeChecked()).matches())) {
+                (isCurrentToBeCheckedItemNull() || !matches(pattern, getCurrentItemToBeChecked()))) {
             registerAsFailure(MISMATCH, "not matching", getCurrentItemToBeChecked());
         } 
 
         return this;
     }
     
+    public StringValidationContext failWhenNotMatching(String regex) {
+        return failWhenNotMatching(regex, PatternCache.getDefault());
+    }
+
+    public StringValidationContext failWhenNotMatching(String regex, PatternCache patternCache) {
+        if (isStopped()) {
+            return this;
+        }
+
+        if(regex == null) {
+            throw new IllegalArgumentException("regex is missing");
+        }
+
+        if(patternCache == null) {
+            throw new IllegalArgumentException("pattern cache is missing");
+        }
+
+        if(!(isOptional() && isCurrentToBeCheckedItemNull()) && 
+                (isCurrentToBeCheckedItemNull() || !patternCache.matches(regex, getCurrentItemToBeChecked()))) {
+            registerAsFailure(MISMATCH, "not matching", getCurrentItemToBeChecked());
+        } 
+
+        return this;
+    }
+
+    public StringValidationContext failWhenNotDigits() {
+        return failWhenNotConsistingOf(CharacterClass.DIGITS, -1);
+    }
+
+    public StringValidationContext failWhenNotDigits(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("length must not be negative");
+        }
+
+        return failWhenNotConsistingOf(CharacterClass.DIGITS, length);
+    }
+
+    public StringValidationContext failWhenNotHex() {
+        return failWhenNotConsistingOf(CharacterClass.HEX, -1);
+    }
+
+    public StringValidationContext failWhenNotAsciiAlphanumeric() {
+        return failWhenNotConsistingOf(CharacterClass.ASCII_ALPHANUMERIC, -1);
+    }
+
+    public StringValidationContext failWhenNotUpperCaseLetters(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("length must not be negative");
+        }
+
+        return failWhenNotConsistingOf(CharacterClass.UPPER_CASE_LETTERS, length);
+    }
+
+    public StringValidationContext failWhenNotOfLength(int length) {
+        if (isStopped()) {
+            return this;
+        }
+
+        if(!(isOptional() && isCurrentToBeCheckedItemNull()) && 
+                (isCurrentToBeCheckedItemNull() || getCurrentItemToBeChecked().length() != length)) {
+            registerAsFailure(MISMATCH, "not matching", getCurrentItemToBeChecked());
+        } 
+
+        return this;
+    }
+
+    private StringValidationContext failWhenNotConsistingOf(boolean[] table, int length) {
+        if (isStopped()) {
+            return this;
+        }
+
+        if(!(isOptional() && isCurrentToBeCheckedItemNull()) && 
+                (isCurrentToBeCheckedItemNull() || !(length < 0 ? CharacterClass.consistsOf(table, getCurrentItemToBeChecked())
+                        : CharacterClass.consistsOf(table, getCurrentItemToBeChecked(), length)))) {
+            registerAsFailure(MISMATCH, "not matching", getCurrentItemToBeChecked());
+        } 
+
+        return this;
+    }
+
+    private static boolean matches(Pattern pattern, String item) {
+        CharacterClass characterClass = CharacterClass.of(pattern);
+        return characterClass != null ? characterClass.matches(item) : pattern.matcher(item).matches();
+    }
+
     public StringValidationContext failWhenNotIn(Collection<String> items) {
+        if (isStopped()) {
+            return this;
+        }
+
         if(items == null) {
             throw new IllegalArgumentException("items are missing");
         }
@@ -49,6 +150,44 @@ public class StringValidationContext extends ValidationContext<StringValidationC
     }
     
     public StringValidationContext failWhenIn(Collection<String> items) {
+        if (isStopped()) {
+            return this;
+        }
+
+        if(items == null) {
+            throw new IllegalArgumentException("items are missing");
+        }
+
+        if(!(isOptional() && isCurrentToBeCheckedItemNull()) && 
+                (isCurrentToBeCheckedItemNull() || items.contains(getCurrentItemToBeChecked()))) {
+            registerAsFailure(MISMATCH, "not matching", getCurrentItemToBeChecked());
+        } 
+
+        return this;
+    }
+    
+    public StringValidationContext failWhenNotIn(StringLookup items) {
+        if (isStopped()) {
+            return this;
+        }
+
+        if(items == null) {
+            throw new IllegalArgumentException("items are missing");
+        }
+
+        if(!(isOptional() && isCurrentToBeCheckedItemNull()) && 
+                (isCurrentToBeCheckedItemNull() || !items.contains(getCurrentItemToBeChecked()))) {
+            registerAsFailure(MISMATCH, "not matching", getCurrentItemToBeChecked());
+        } 
+
+        return this;
+    }
+    
+    public StringValidationContext failWhenIn(StringLookup items) {
+        if (isStopped()) {
+            return this;
+        }
+
         if(items == null) {
             throw new IllegalArgumentException("items are missing");
         }
@@ -62,6 +201,10 @@ public class StringValidationContext extends ValidationContext<StringValidationC
     }
     
     public StringValidationContext failWhenMissingOrEmpty() {
+        if (isStopped()) {
+            return this;
+        }
+
         if(Strings.isNullOrEmpty(getCurrentItemToBeChecked())) {
             registerAsFailure(MISMATCH, "not matching", getCurrentItemToBeChecked());
         } 
@@ -0,0 +1,67 @@
+package dk.emstar.common.validation;
+
+import java.util.regex.Pattern;
+
+/**
+ * The checks of a string property as plain data, so a {@link ValidationPlan} applies them without walking a fluent
+ * chain per item. The checks are applied in a fixed order: missing, missing or empty, length, pattern, allowed and
+ * forbidden values. A plan is immutable and can be shared.
+ */
+public final class StringValidationPlan {
+    static final int NO_MAXIMUM_LENGTH = -1;
+
+    private final boolean optional;
+    private final boolean failWhenMissing;
+    private final boolean failWhenMissingOrEmpty;
+    private final int maximumLength;
+    private final Pattern pattern;
+    private final StringLookup allowed;
+    private final StringLookup forbidden;
+
+    StringValidationPlan(boolean optional, boolean failWhenMissing, boolean failWhenMissingOrEmpty, int maximumLength, Pattern pattern,
+            StringLookup allowed, StringLookup forbidden) {
+        this.optional = optional;
+        this.failWhenMissing = failWhenMissing;
+        this.failWhenMissingOrEmpty = failWhenMissingOrEmpty;
+        this.maximumLength = maximumLength;
+        this.pattern = pattern;
+        this.allowed = allowed;
+        this.forbidden = forbidden;
+    }
+
+    public static StringValidationPlanBuilder builder() {
+        return new StringValidationPlanBuilder();
+    }
+
+    ValidationResult apply(StringValidationContext validationContext) {
+        if (optional) {
+            validationContext.asOptional();
+        }
+
+        if (failWhenMissing) {
+            validationContext.failWhenMissing();
+        }
+
+        if (failWhenMissingOrEmpty) {
+            validationContext.failWhenMissingOrEmpty();
+        }
+
+        if (maximumLength != NO_MAXIMUM_LENGTH) {
+            validationContext.failWhenLongerThan(maximumLength);
+        }
+
+        if (pattern != null) {
+            validationContext.failWhenNotMatching(pattern);
+        }
+
+        if (allowed != null) {
+            validationContext.failWhenNotIn(allowed);
+        }
+
+        if (forbidden != null) {
+            validationContext.failWhenIn(forbidden);
+        }
+
+        return validationContext.result();
+    }
+}
@@ -0,0 +1,79 @@
+package dk.emstar.common.validation;
+
+import java.util.regex.Pattern;
+
+public class StringValidationPlanBuilder {
+    private boolean optional;
+    private boolean failWhenMissing;
+    private boolean failWhenMissingOrEmpty;
+    private int maximumLength = StringValidationPlan.NO_MAXIMUM_LENGTH;
+    private Pattern pattern;
+    private StringLookup allowed;
+    private StringLookup forbidden;
+
+    StringValidationPlanBuilder() {
+    }
+
+    public StringValidationPlanBuilder asOptional() {
+        optional = true;
+        return this;
+    }
+
+    public StringValidationPlanBuilder failWhenMissing() {
+        failWhenMissing = true;
+        return this;
+    }
+
+    public StringValidationPlanBuilder failWhenMissingOrEmpty() {
+        failWhenMissingOrEmpty = true;
+        return this;
+    }
+
+    public StringValidationPlanBuilder failWhenLongerThan(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("length must not be negative");
+        }
+
+        maximumLength = length;
+        return this;
+    }
+
+    public StringValidationPlanBuilder failWhenNotMatching(Pattern pattern) {
+        if (pattern == null) {
+            throw new IllegalArgumentException("pattern is missing");
+        }
+
+        this.pattern = pattern;
+        return this;
+    }
+
+    public StringValidationPlanBuilder failWhenNotMatching(String regex) {
+        if (regex == null) {
+            throw new IllegalArgumentException("regex is missing");
+        }
+
+        return failWhenNotMatching(PatternCache.getDefault().getPattern(regex));
+    }
+
+    public StringValidationPlanBuilder failWhenNotIn(StringLookup items) {
+        if (items == null) {
+            throw new IllegalArgumentException("items are missing");
+        }
+
+        allowed = items;
+        return this;
+    }
+
+    public StringValidationPlanBuilder failWhenIn(StringLookup items) {
+        if (items == null) {
+            throw new IllegalArgumentException("items are missing");
+        }
+
+        forbidden = items;
+        return this;
+    }
+
+    public StringValidationPlan build() {
+        return new StringValidationPlan(optional, failWhenMissing, failWhenMissingOrEmpty, maximumLength, pattern, allowed, forbidden);
+    }
+}
@@ -0,0 +1,84 @@
+package dk.emstar.common.validation;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+
+/**
+ * An inclusive interval of temporal values whose bounds are normalised once, so it can be reused for checking many
+ * values.
+ */
+public final class TemporalInterval<U> {
+    private final U begin;
+    private final U end;
+    final long beginMajor;
+    final long beginMinor;
+    final long endMajor;
+    final long endMinor;
+
+    private TemporalInterval(U begin, U end, TemporalNormalizer<U> normalizer) {
+        if (begin == null) {
+            throw new IllegalArgumentException("begin is missing");
+        }
+
+        if (end == null) {
+            throw new IllegalArgumentException("end is missing");
+        }
+
+        this.begin = begin;
+        this.end = end;
+        this.beginMajor = normalizer.major(begin);
+        this.beginMinor = normalizer.minor(begin);
+        this.endMajor = normalizer.major(end);
+        this.endMinor = normalizer.minor(end);
+
+        if (TemporalNormalizer.compare(beginMajor, beginMinor, endMajor, endMinor) > 0) {
+            throw new IllegalArgumentException("begin is after end");
+        }
+    }
+
+    public static TemporalInterval<LocalDate> of(LocalDate begin, LocalDate end) {
+        return new TemporalInterval<LocalDate>(begin, end, TemporalNormalizer.LOCAL_DATE);
+    }
+
+    public static TemporalInterval<LocalTime> of(LocalTime begin, LocalTime end) {
+        return new TemporalInterval<LocalTime>(begin, end, TemporalNormalizer.LOCAL_TIME);
+    }
+
+    public static TemporalInterval<LocalDateTime> of(LocalDateTime begin, LocalDateTime end) {
+        return new TemporalInterval<LocalDateTime>(begin, end, TemporalNormalizer.LOCAL_DATE_TIME);
+    }
+
+    public static TemporalInterval<Instant> of(Instant begin, Instant end) {
+        return new TemporalInterval<Instant>(begin, end, TemporalNormalizer.INSTANT);
+    }
+
+    public static TemporalInterval<ZonedDateTime> of(ZonedDateTime begin, ZonedDateTime end) {
+        return new TemporalInterval<ZonedDateTime>(begin, end, TemporalNormalizer.ZONED_DATE_TIME);
+    }
+
+    public static TemporalInterval<OffsetDateTime> of(OffsetDateTime begin, OffsetDateTime end) {
+        return new TemporalInterval<OffsetDateTime>(begin, end, TemporalNormalizer.OFFSET_DATE_TIME);
+    }
+
+    public U getBegin() {
+        return begin;
+    }
+
+    public U getEnd() {
+        return end;
+    }
+
+    boolean contains(long major, long minor) {
+        return TemporalNormalizer.compare(beginMajor, beginMinor, major, minor) <= 0
+                && TemporalNormalizer.compare(major, minor, endMajor, endMinor) <= 0;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + begin + ", " + end + "]";
+    }
+}
@@ -0,0 +1,95 @@
+package dk.emstar.common.validation;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+
+/**
+ * Normalises a temporal value to a pair of longs, ordered first by the major and then by the minor value, so that
+ * comparing two values is a couple of long comparisons.
+ */
+abstract class TemporalNormalizer<U> {
+    static final TemporalNormalizer<LocalDate> LOCAL_DATE = new TemporalNormalizer<LocalDate>() {
+        @Override
+        long major(LocalDate value) {
+            return value.toEpochDay();
+        }
+
+        @Override
+        long minor(LocalDate value) {
+            return 0;
+        }
+    };
+
+    static final TemporalNormalizer<LocalTime> LOCAL_TIME = new TemporalNormalizer<LocalTime>() {
+        @Override
+        long major(LocalTime value) {
+            return value.toNanoOfDay();
+        }
+
+        @Override
+        long minor(LocalTime value) {
+            return 0;
+        }
+    };
+
+    static final TemporalNormalizer<LocalDateTime> LOCAL_DATE_TIME = new TemporalNormalizer<LocalDateTime>() {
+        @Override
+        long major(LocalDateTime value) {
+            return value.toLocalDate().toEpochDay();
+        }
+
+        @Override
+        long minor(LocalDateTime value) {
+            return value.toLocalTime().toNanoOfDay();
+        }
+    };
+
+    static final TemporalNormalizer<Instant> INSTANT = new TemporalNormalizer<Instant>() {
+        @Override
+        long major(Instant value) {
+            return value.getEpochSecond();
+        }
+
+        @Override
+        long minor(Instant value) {
+            return value.getNano();
+        }
+    };
+
+    static final TemporalNormalizer<ZonedDateTime> ZONED_DATE_TIME = new TemporalNormalizer<ZonedDateTime>() {
+        @Override
+        long major(ZonedDateTime value) {
+            return value.toEpochSecond();
+        }
+
+        @Override
+        long minor(ZonedDateTime value) {
+            return value.getNano();
+        }
+    };
+
+    static final TemporalNormalizer<OffsetDateTime> OFFSET_DATE_TIME = new TemporalNormalizer<OffsetDateTime>() {
+        @Override
+        long major(OffsetDateTime value) {
+            return value.toEpochSecond();
+        }
+
+        @Override
+        long minor(OffsetDateTime value) {
+            return value.getNano();
+        }
+    };
+
+    abstract long major(U value);
+
+    abstract long minor(U value);
+
+    static int compare(long major, long minor, long otherMajor, long otherMinor) {
+        int result = Long.compare(major, otherMajor);
+        return result != 0 ? result : Long.compare(minor, otherMinor);
+    }
+}
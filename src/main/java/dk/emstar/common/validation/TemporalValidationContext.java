@@ -0,0 +1,166 @@
+package dk.emstar.common.validation;
+
+/**
+ * Base of the validation contexts for temporal values. The value is normalised once to a pair of longs, so every
+ * check is a couple of long comparisons.
+ */
+public abstract class TemporalValidationContext<T extends TemporalValidationContext<T, U>, U> extends ValidationContext<T, U> {
+    private final TemporalNormalizer<U> normalizer;
+    private final long major;
+    private final long minor;
+
+    TemporalValidationContext(String context, String contextPath, String location, U currentItemToBeChecked, TemporalNormalizer<U> normalizer) {
+        super(context, contextPath, location, currentItemToBeChecked);
+        this.normalizer = normalizer;
+        this.major = currentItemToBeChecked == null ? 0 : normalizer.major(currentItemToBeChecked);
+        this.minor = currentItemToBeChecked == null ? 0 : normalizer.minor(currentItemToBeChecked);
+    }
+
+    TemporalValidationContext(String context, ValidationResult parent, ValidationPath location, U currentItemToBeChecked,
+            TemporalNormalizer<U> normalizer) {
+        super(context, parent, location, currentItemToBeChecked);
+        this.normalizer = normalizer;
+        this.major = currentItemToBeChecked == null ? 0 : normalizer.major(currentItemToBeChecked);
+        this.minor = currentItemToBeChecked == null ? 0 : normalizer.minor(currentItemToBeChecked);
+    }
+
+    /**
+     * Normalises the bounds on every call. When the same bounds are checked repeatedly, build a {@link TemporalInterval}
+     * once and use {@link #failWhenBetween(TemporalInterval)}, which is the precomputed path.
+     */
+    public T failWhenBetween(U begin, U end) {
+        if (isStopped()) {
+            return self();
+        }
+
+        if(!isCurrentToBeCheckedItemNull()) {
+            if(begin == null) {
+                throw new IllegalArgumentException("begin is missing");
+            }
+
+            if(end == null) {
+                throw new IllegalArgumentException("end is missing");
+            }
+
+            if(compareTo(begin) >= 0 && compareTo(end) <= 0) {
+                registerAsFailure(BETWEEN_TEMPORAL, "between", getCurrentItemToBeChecked());
+            }
+        }
+        registerWhenItemIsNullButNotOptional();
+
+        return self();
+    }
+
+    public T failWhenBetween(TemporalInterval<U> interval) {
+        if (isStopped()) {
+            return self();
+        }
+
+        if(!isCurrentToBeCheckedItemNull()) {
+            if(interval == null) {
+                throw new IllegalArgumentException("interval is missing");
+            }
+
+            if(interval.contains(major, minor)) {
+                registerAsFailure(BETWEEN_TEMPORAL, "between", getCurrentItemToBeChecked());
+            }
+        }
+        registerWhenItemIsNullButNotOptional();
+
+        return self();
+    }
+
+    /**
+     * Normalises the bounds on every call. When the same bounds are checked repeatedly, build a {@link TemporalInterval}
+     * once and use {@link #failWhenNotBetween(TemporalInterval)}, which is the precomputed path.
+     */
+    public T failWhenNotBetween(U begin, U end) {
+        if (isStopped()) {
+            return self();
+        }
+
+        if(!isCurrentToBeCheckedItemNull()) {
+            if(begin == null) {
+                throw new IllegalArgumentException("begin is missing");
+            }
+
+            if(end == null) {
+                throw new IllegalArgumentException("end is missing");
+            }
+
+            if(!(compareTo(begin) >= 0 && compareTo(end) <= 0)) {
+                registerAsFailure(NOT_BETWEEN_TEMPORAL, "not in between", getCurrentItemToBeChecked());
+            }
+        }
+        registerWhenItemIsNullButNotOptional();
+
+        return self();
+    }
+
+    public T failWhenNotBetween(TemporalInterval<U> interval) {
+        if (isStopped()) {
+            return self();
+        }
+
+        if(!isCurrentToBeCheckedItemNull()) {
+            if(interval == null) {
+                throw new IllegalArgumentException("interval is missing");
+            }
+
+            if(!interval.contains(major, minor)) {
+                registerAsFailure(NOT_BETWEEN_TEMPORAL, "not in between", getCurrentItemToBeChecked());
+            }
+        }
+        registerWhenItemIsNullButNotOptional();
+
+        return self();
+    }
+
+    public T failWhenAfter(U limit) {
+        if (isStopped()) {
+            return self();
+        }
+
+        if(!isCurrentToBeCheckedItemNull()) {
+            if(limit == null) {
+                throw new IllegalArgumentException("limit is missing");
+            }
+
+            if(compareTo(limit) > 0) {
+                registerAsFailure(AFTER_TEMPORAL, "after", getCurrentItemToBeChecked());
+            }
+        }
+        registerWhenItemIsNullButNotOptional();
+
+        return self();
+    }
+
+    public T failWhenBefore(U limit) {
+        if (isStopped()) {
+            return self();
+        }
+
+        if(!isCurrentToBeCheckedItemNull()) {
+            if(limit == null) {
+                throw new IllegalArgumentException("limit is missing");
+            }
+
+            if(compareTo(limit) < 0) {
+                registerAsFailure(BEFORE_TEMPORAL, "before", getCurrentItemToBeChecked());
+            }
+        }
+
+        registerWhenItemIsNullButNotOptional();
+
+        return self();
+    }
+
+    private int compareTo(U other) {
+        return TemporalNormalizer.compare(major, minor, normalizer.major(other), normalizer.minor(other));
+    }
+
+    @SuppressWarnings("unchecked")
+    private T self() {
+        return (T) this;
+    }
+}
@@ -1,6 +1,6 @@
 package dk.emstar.common.validation;
 
-import java.text.MessageFormat;
+import java.util.function.Supplier;
 
 import com.google.common.base.Strings;
 
@@ -15,28 +15,28 @@ public class ThrowableValidationResult implements AutoCloseable{
     public static final String UNKNOWN_ERROR = "9999";
 
     public ThrowableValidationResult throwWhenHasValidationCode(String validationCode, String errorMessage) {
-        validationResult.stream().filter(o -> validationCode.equals(o.getValidationCode())).findFirst().ifPresent(o -> {
-            if (validationResult.hasFailure()) {
-                throw new ValidationException(validationCode, errorMessage, validationResult, o);
-            }
-        });
+        if (validationResult.hasFailure() && validationResult.hasValidationCode(validationCode)) {
+            ValidationRegistration validationRegistration = findOrCreateValidationRegistration(validationCode, errorMessage);
+            throw createValidationException(validationCode, () -> errorMessage, validationRegistration);
+        }
         return this;
     }
 
     public ThrowableValidationResult throwWhenHasValidationCode(String validationCode) {
-        validationResult.stream().filter(o -> validationCode.equals(o.getValidationCode())).findFirst().ifPresent(o -> {
-            if (validationResult.hasFailure()) {
-                throw new ValidationException(validationCode, o.getValidationMessage(), validationResult, o);
-            }
-        });
+        if (validationResult.hasFailure() && validationResult.hasValidationCode(validationCode)) {
+            ValidationRegistration validationRegistration = findOrCreateValidationRegistration(validationCode,
+                    "registered " + validationResult.getValidationCodeCount(validationCode) + " time(s)");
+            throw createValidationException(validationCode, validationRegistration::getValidationMessage, validationRegistration);
+        }
         return this;
     }
 
     public ThrowableValidationResult throwForFirstFoundWhenAnyFailures() {
         if (validationResult.hasFailure()) {
-            String allDetails = validationResult.getAllDetailsAsString();
-            ValidationRegistration firstValidationFailure = validationResult.stream().filter(o -> ValidationLevel.Failure.equals(o.getValidationLevel())).findFirst().get();
-            throw new ValidationException(firstValidationFailure.getValidationCode(), allDetails, validationResult, firstValidationFailure);
+            ValidationRegistration firstValidationFailure = validationResult.stream().filter(o -> ValidationLevel.Failure.equals(o.getValidationLevel())).findFirst()
+                    .orElse(null);
+            throw createValidationException(firstValidationFailure == null ? UNKNOWN_ERROR : firstValidationFailure.getValidationCode(),
+                    validationResult::getAllDetailsAsString, firstValidationFailure);
         }
 
         return this;
@@ -44,12 +44,7 @@ public class ThrowableValidationResult implements AutoCloseable{
 
     public ThrowableValidationResult throwIncludeAllMessagesWhenAnyFailures(String validationCode, String mainValidationMessage) {
         if (validationResult.hasFailure()) {
-            StringBuilder errorMessagesStringBuilder = new StringBuilder(Strings.isNullOrEmpty(mainValidationMessage) ? "" : MessageFormat.format("{0}: ",
-                    mainValidationMessage));
-
-            validationResult.stream().forEach(o -> errorMessagesStringBuilder.append(o.getDetails()).append(", "));
-            String errorMessages = errorMessagesStringBuilder.toString();
-            throw new ValidationException(validationCode, errorMessages, validationResult, validationResult.stream().findFirst().get());
+            throw createValidationException(validationCode, () -> buildAllMessages(mainValidationMessage), validationResult.stream().findFirst().orElse(null));
         }
 
         return this;
@@ -63,6 +58,41 @@ public class ThrowableValidationResult implements AutoCloseable{
         return throwIncludeAllMessagesWhenAnyFailures(UNKNOWN_ERROR, "");
     }
 
+    private String buildAllMessages(String mainValidationMessage) {
+        StringBuilder errorMessagesStringBuilder = new StringBuilder();
+        if (!Strings.isNullOrEmpty(mainValidationMessage)) {
+            errorMessagesStringBuilder.append(mainValidationMessage).append(": ");
+        }
+
+        for (ValidationRegistration validationRegistration : validationResult) {
+            validationRegistration.appendDetailsTo(errorMessagesStringBuilder).append(", ");
+        }
+
+        return errorMessagesStringBuilder.toString();
+    }
+
+    /**
+     * The registration is not there when registrations are not retained, then one is built from the counted code.
+     */
+    private ValidationRegistration findOrCreateValidationRegistration(String validationCode, String validationMessage) {
+        ValidationRegistration validationRegistration = validationResult.findValidationCode(validationCode);
+        if (validationRegistration != null) {
+            return validationRegistration;
+        }
+
+        return new ValidationRegistration(validationCode, validationMessage, validationResult.getContext(), validationResult.getLocationPath(),
+                validationResult.getPath(), ValidationLevel.Failure);
+    }
+
+    private ValidationException createValidationException(String validationCode, Supplier<String> validationMessage,
+            ValidationRegistration validationRegistration) {
+        if (validationResult.getValidationOptions().isLightweightExceptions()) {
+            return new ValidationException(validationCode, validationMessage, validationResult, validationRegistration);
+        }
+
+        return new ValidationException(validationCode, validationMessage.get(), validationResult, validationRegistration);
+    }
+
     @Override
     public void close() {
         throwIncludeAllMessagesWhenAnyFailures(UNKNOWN_ERROR, "generic");
@@ -0,0 +1,18 @@
+package dk.emstar.common.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class for which the validation annotation processor generates a validator named after the class with the
+ * suffix Validator. The value is the context of the validated item and defaults to the decapitalized class name.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface Validated {
+    String value() default "";
+}
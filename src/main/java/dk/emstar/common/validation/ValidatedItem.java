@@ -0,0 +1,32 @@
+package dk.emstar.common.validation;
+
+public class ValidatedItem<T> {
+    private final T item;
+    private final ValidationResult validationResult;
+
+    public ValidatedItem(T item, ValidationResult validationResult) {
+        this.item = item;
+        this.validationResult = validationResult;
+    }
+
+    public T getItem() {
+        return item;
+    }
+
+    public ValidationResult getValidationResult() {
+        return validationResult;
+    }
+
+    public boolean hasFailure() {
+        return validationResult.hasFailure();
+    }
+
+    public boolean hasWarning() {
+        return validationResult.hasWarning();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("{%s:%s}", item, validationResult);
+    }
+}
@@ -2,15 +2,24 @@ package dk.emstar.common.validation;
 
 import java.util.function.Predicate;
 
-import com.google.common.base.Joiner;
-
 public class ValidationContext<T extends ValidationContext<T, U>, U> implements ValidationResultProvider {
     private final U currentItemToBeChecked;
     private final ValidationResult validationResult;
     private boolean isOptional = false;
+    private boolean isNotMarkedAsOptionalRegistered = false;
 
     public ValidationContext(String context, U currentItemToBeChecked) {
-        this(context, "", context, currentItemToBeChecked);
+        this(context, currentItemToBeChecked, ValidationOptions.DEFAULT);
+    }
+
+    public ValidationContext(String context, U currentItemToBeChecked, ValidationOptions options) {
+        if (options == null) {
+            throw new IllegalArgumentException("options are missing");
+        }
+
+        ValidationPath path = ValidationPath.ROOT.child(context);
+        this.currentItemToBeChecked = currentItemToBeChecked;
+        this.validationResult = new ValidationResult(context, path, path, new ValidationRun(options));
     }
 
     public ValidationContext(String context, String contextPath, String location, U currentItemToBeChecked) {
@@ -18,9 +27,18 @@ public class ValidationContext<T extends ValidationContext<T, U>, U> implements
         this.validationResult = new ValidationResult(context, contextPath, location);
     }
 
+    public ValidationContext(String context, ValidationResult parent, ValidationPath location, U currentItemToBeChecked) {
+        this.currentItemToBeChecked = currentItemToBeChecked;
+        this.validationResult = new ValidationResult(context, parent.getPath().child(context), location, parent.getRun());
+    }
+
     // TODO this should be tested when marked mandatory and optional
     @SuppressWarnings("unchecked")
     public T failWhen(Predicate<U> predicate, String failureCode, String message, Object... objects) {
+        if (isStopped()) {
+            return (T) this;
+        }
+
         if (!isCurrentToBeCheckedItemNull() && predicate.test(currentItemToBeChecked)) {
             validationResult.registerValidationFailure(failureCode, message, objects);
         }
@@ -36,7 +54,7 @@ public class ValidationContext<T extends ValidationContext<T, U>, U> implements
 
     @SuppressWarnings("unchecked")
     public T failWhenMissing() {
-        if (isCurrentToBeCheckedItemNull()) {
+        if (!isStopped() && isCurrentToBeCheckedItemNull()) {
             validationResult.registerNullValidation(MISSING, "is null");
         }
 
@@ -67,9 +85,14 @@ public class ValidationContext<T extends ValidationContext<T, U>, U> implements
         return currentItemToBeChecked == null;
     }
 
+    public boolean isStopped() {
+        return validationResult.isStopped();
+    }
+
     protected void registerWhenItemIsNullButNotOptional() {
-        if (isCurrentToBeCheckedItemNull() && !isOptional()) {
-            validationResult.registerValidationWarning(ValidationResultProvider.NOT_MARKED_AS_OPTIONAL, "not marked as optional but is null");
+        if (isCurrentToBeCheckedItemNull() && !isOptional() && !isNotMarkedAsOptionalRegistered && !isStopped()) {
+            isNotMarkedAsOptionalRegistered = true;
+            validationResult.registerNotMarkedAsOptional();
         }
     }
 
@@ -81,7 +104,7 @@ public class ValidationContext<T extends ValidationContext<T, U>, U> implements
         this.validationResult.register(validationResult);
     }
 
-    protected String buildCompleteLocation(String location, String context) {
-        return Joiner.on(".").join(location, context);
+    protected ValidationPath buildCompleteLocation(String context) {
+        return validationResult.getLocationPath().child(context);
     }
 }
@@ -0,0 +1,62 @@
+package dk.emstar.common.validation;
+
+/**
+ * The declarative description of a step in a {@link ValidationPlan}, kept for plans which only consist of steps that
+ * can be generated into code.
+ */
+final class ValidationDefinitionStep {
+
+    enum Kind {
+        AsOptional, FailWhenMissing, ValidateString, Validate, ;
+    }
+
+    private final Kind kind;
+    private final String property;
+    private final int length;
+    private final Required required;
+    private final ValidationPlan<?> plan;
+
+    private ValidationDefinitionStep(Kind kind, String property, int length, Required required, ValidationPlan<?> plan) {
+        this.kind = kind;
+        this.property = property;
+        this.length = length;
+        this.required = required;
+        this.plan = plan;
+    }
+
+    static ValidationDefinitionStep asOptional() {
+        return new ValidationDefinitionStep(Kind.AsOptional, null, 0, null, null);
+    }
+
+    static ValidationDefinitionStep failWhenMissing() {
+        return new ValidationDefinitionStep(Kind.FailWhenMissing, null, 0, null, null);
+    }
+
+    static ValidationDefinitionStep validateString(String property, int length, Required required) {
+        return new ValidationDefinitionStep(Kind.ValidateString, property, length, required, null);
+    }
+
+    static ValidationDefinitionStep validate(String property, ValidationPlan<?> plan) {
+        return new ValidationDefinitionStep(Kind.Validate, property, 0, null, plan);
+    }
+
+    Kind getKind() {
+        return kind;
+    }
+
+    String getProperty() {
+        return property;
+    }
+
+    int getLength() {
+        return length;
+    }
+
+    Required getRequired() {
+        return required;
+    }
+
+    ValidationPlan<?> getPlan() {
+        return plan;
+    }
+}
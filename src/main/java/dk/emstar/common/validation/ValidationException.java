@@ -1,5 +1,9 @@
 package dk.emstar.common.validation;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.function.Supplier;
+
 import org.slf4j.Logger;
 
 public class ValidationException extends RuntimeException {
@@ -7,6 +11,8 @@ public class ValidationException extends RuntimeException {
     private final String validationCode;
     private final ValidationResult validationResult;
     private final ValidationRegistration validationRegistration;
+    private transient Supplier<String> validationMessageSupplier;
+    private String validationMessage;
 
     public ValidationException(String validationCode, String validationMessage, ValidationResult validationResult, ValidationRegistration validationRegistrationsult) {
         super(validationMessage);
@@ -15,6 +21,33 @@ public class ValidationException extends RuntimeException {
         this.validationRegistration = validationRegistrationsult;
     }
 
+    /**
+     * Creates an exception without stack trace and suppression, which only builds its message when it is asked for.
+     */
+    public ValidationException(String validationCode, Supplier<String> validationMessageSupplier, ValidationResult validationResult,
+            ValidationRegistration validationRegistration) {
+        super(null, null, false, false);
+        if (validationMessageSupplier == null) {
+            throw new IllegalArgumentException("validation message supplier is missing");
+        }
+
+        this.validationCode = validationCode;
+        this.validationResult = validationResult;
+        this.validationRegistration = validationRegistration;
+        this.validationMessageSupplier = validationMessageSupplier;
+    }
+
+    @Override
+    public String getMessage() {
+        Supplier<String> supplier = validationMessageSupplier;
+        if (supplier != null) {
+            validationMessage = supplier.get();
+            validationMessageSupplier = null;
+        }
+
+        return validationMessage == null ? super.getMessage() : validationMessage;
+    }
+
     public ValidationResult getValidationResult() {
         return validationResult;
     }
@@ -24,11 +57,19 @@ public class ValidationException extends RuntimeException {
     }
     
     public void logCausingRegistration(Logger logger) {
-        if (ValidationLevel.Failure.equals(validationRegistration.getValidationLevel())) {
-            logger.error(validationRegistration.getDetails());
-        } else {
+        if (validationRegistration == null) {
+            logger.error(getMessage());
+        } else if (ValidationLevel.Failure.equals(validationRegistration.getValidationLevel())) {
+            if (logger.isErrorEnabled()) {
+                logger.error(validationRegistration.getDetails());
+            }
+        } else if (logger.isWarnEnabled()) {
             logger.warn(validationRegistration.getDetails());
         }
     }
 
+    private void writeObject(ObjectOutputStream objectOutputStream) throws IOException {
+        getMessage();
+        objectOutputStream.defaultWriteObject();
+    }
 }
@@ -1,6 +1,79 @@
 package dk.emstar.common.validation;
 
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 public interface ValidationFactory {
 
     <T> ObjectValidationContext<T> validate(String context, T itemToBeValidated);
+
+    default <T> ValidationResult validate(ValidationPlan<T> plan, T itemToBeValidated) {
+        if (plan == null) {
+            throw new IllegalArgumentException("plan is missing");
+        }
+
+        return plan.validate(validate(plan.getContext(), itemToBeValidated));
+    }
+
+    default <T> Stream<ValidatedItem<T>> validateAll(String context, Stream<T> itemsToBeValidated, Validator<ObjectValidationContext<T>> validator) {
+        if (itemsToBeValidated == null) {
+            throw new IllegalArgumentException("items are missing");
+        }
+
+        if (validator == null) {
+            throw new IllegalArgumentException("validator is missing");
+        }
+
+        return itemsToBeValidated.map(o -> new ValidatedItem<T>(o, validator.validate(validate(context, o))));
+    }
+
+    default <T> Stream<ValidatedItem<T>> validateAll(String context, Iterable<T> itemsToBeValidated, Validator<ObjectValidationContext<T>> validator) {
+        if (itemsToBeValidated == null) {
+            throw new IllegalArgumentException("items are missing");
+        }
+
+        return validateAll(context, itemsToBeValidated.spliterator(), false, validator);
+    }
+
+    default <T> Stream<ValidatedItem<T>> validateAll(String context, Spliterator<T> itemsToBeValidated, boolean parallel,
+            Validator<ObjectValidationContext<T>> validator) {
+        if (itemsToBeValidated == null) {
+            throw new IllegalArgumentException("items are missing");
+        }
+
+        return validateAll(context, StreamSupport.stream(itemsToBeValidated, parallel), validator);
+    }
+
+    default <T> Stream<ValidatedItem<T>> validateAll(ValidationPlan<T> plan, Stream<T> itemsToBeValidated) {
+        if (plan == null) {
+            throw new IllegalArgumentException("plan is missing");
+        }
+
+        return validateAll(plan.getContext(), itemsToBeValidated, plan);
+    }
+
+    default <T> Stream<ValidatedItem<T>> validateAll(ValidationPlan<T> plan, Iterable<T> itemsToBeValidated) {
+        if (plan == null) {
+            throw new IllegalArgumentException("plan is missing");
+        }
+
+        return validateAll(plan.getContext(), itemsToBeValidated, plan);
+    }
+
+    default <T> Stream<ValidatedItem<T>> validateAll(ValidationPlan<T> plan, Spliterator<T> itemsToBeValidated, boolean parallel) {
+        if (plan == null) {
+            throw new IllegalArgumentException("plan is missing");
+        }
+
+        return validateAll(plan.getContext(), itemsToBeValidated, parallel, plan);
+    }
+
+    default <T> Stream<ValidatedItem<T>> findFailures(String context, Stream<T> itemsToBeValidated, Validator<ObjectValidationContext<T>> validator) {
+        return validateAll(context, itemsToBeValidated, validator).filter(ValidatedItem::hasFailure);
+    }
+
+    default <T> Stream<ValidatedItem<T>> findFailures(ValidationPlan<T> plan, Stream<T> itemsToBeValidated) {
+        return validateAll(plan, itemsToBeValidated).filter(ValidatedItem::hasFailure);
+    }
 }
@@ -0,0 +1,5 @@
+package dk.emstar.common.validation;
+
+public enum ValidationMode {
+    Complete, FailFast, ;
+}
@@ -0,0 +1,68 @@
+package dk.emstar.common.validation;
+
+public class ValidationOptions {
+    public static final ValidationOptions DEFAULT = new ValidationOptions(ValidationMode.Complete, null, true, true, false);
+
+    private final ValidationMode validationMode;
+    private final ValidationSink sink;
+    private final boolean retainRegistrations;
+    private final boolean notMarkedAsOptionalWarnings;
+    private final boolean lightweightExceptions;
+
+    private ValidationOptions(ValidationMode validationMode, ValidationSink sink, boolean retainRegistrations,
+            boolean notMarkedAsOptionalWarnings, boolean lightweightExceptions) {
+        this.validationMode = validationMode;
+        this.sink = sink;
+        this.retainRegistrations = retainRegistrations;
+        this.notMarkedAsOptionalWarnings = notMarkedAsOptionalWarnings;
+        this.lightweightExceptions = lightweightExceptions;
+    }
+
+    public ValidationMode getValidationMode() {
+        return validationMode;
+    }
+
+    public boolean isFailFast() {
+        return ValidationMode.FailFast.equals(validationMode);
+    }
+
+    public ValidationSink getSink() {
+        return sink;
+    }
+
+    public boolean isRetainRegistrations() {
+        return retainRegistrations;
+    }
+
+    public boolean isNotMarkedAsOptionalWarnings() {
+        return notMarkedAsOptionalWarnings;
+    }
+
+    public boolean isLightweightExceptions() {
+        return lightweightExceptions;
+    }
+
+    public ValidationOptions withValidationMode(ValidationMode validationMode) {
+        if (validationMode == null) {
+            throw new IllegalArgumentException("validation mode is missing");
+        }
+
+        return new ValidationOptions(validationMode, sink, retainRegistrations, notMarkedAsOptionalWarnings, lightweightExceptions);
+    }
+
+    public ValidationOptions withSink(ValidationSink sink) {
+        return new ValidationOptions(validationMode, sink, retainRegistrations, notMarkedAsOptionalWarnings, lightweightExceptions);
+    }
+
+    public ValidationOptions withRetainRegistrations(boolean retainRegistrations) {
+        return new ValidationOptions(validationMode, sink, retainRegistrations, notMarkedAsOptionalWarnings, lightweightExceptions);
+    }
+
+    public ValidationOptions withNotMarkedAsOptionalWarnings(boolean notMarkedAsOptionalWarnings) {
+        return new ValidationOptions(validationMode, sink, retainRegistrations, notMarkedAsOptionalWarnings, lightweightExceptions);
+    }
+
+    public ValidationOptions withLightweightExceptions(boolean lightweightExceptions) {
+        return new ValidationOptions(validationMode, sink, retainRegistrations, notMarkedAsOptionalWarnings, lightweightExceptions);
+    }
+}
@@ -0,0 +1,150 @@
+package dk.emstar.common.validation;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.MapMaker;
+
+/**
+ * A path in the validated object graph as a chain of segments and indices. Named children of an interned path are
+ * interned as well, so the paths of properties are shared between validations. Interned children are only weakly
+ * referenced, so segments built from data do not accumulate once no result refers to them. The string form is only
+ * built when it is asked for, and then kept.
+ */
+public class ValidationPath {
+    private static final int NO_INDEX = -1;
+    private static final int KEY = -2;
+
+    public static final ValidationPath ROOT = new ValidationPath(null, null, NO_INDEX, true);
+
+    private final ValidationPath parent;
+    private final String segment;
+    private final int index;
+    private final Object key;
+    private final boolean interned;
+    private volatile ConcurrentMap<String, ValidationPath> children;
+    private String path;
+    private ValidationRegistration notMarkedAsOptional;
+
+    private ValidationPath(ValidationPath parent, String segment, int index, boolean interned) {
+        this(parent, segment, index, null, interned);
+    }
+
+    private ValidationPath(ValidationPath parent, String segment, int index, Object key, boolean interned) {
+        this.parent = parent;
+        this.segment = segment;
+        this.index = index;
+        this.key = key;
+        this.interned = interned;
+    }
+
+    public static ValidationPath of(String path) {
+        return Strings.isNullOrEmpty(path) ? ROOT : new ValidationPath(ROOT, path, NO_INDEX, false);
+    }
+
+    public ValidationPath child(String segment) {
+        if (segment == null) {
+            return this;
+        }
+
+        if (!interned) {
+            return new ValidationPath(this, segment, NO_INDEX, false);
+        }
+
+        ConcurrentMap<String, ValidationPath> children = getChildren();
+        ValidationPath child = children.get(segment);
+        if (child == null) {
+            child = new ValidationPath(this, segment, NO_INDEX, true);
+            ValidationPath existing = children.putIfAbsent(segment, child);
+            if (existing != null) {
+                child = existing;
+            }
+        }
+
+        return child;
+    }
+
+    public ValidationPath index(int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("index is negative");
+        }
+
+        return new ValidationPath(this, null, index, false);
+    }
+
+    public ValidationPath key(Object key) {
+        return new ValidationPath(this, null, KEY, key, false);
+    }
+
+    public ValidationPath getParent() {
+        return parent;
+    }
+
+    public boolean isRoot() {
+        return parent == null;
+    }
+
+    public StringBuilder appendTo(StringBuilder stringBuilder) {
+        if (path != null) {
+            return stringBuilder.append(path);
+        }
+
+        if (isRoot()) {
+            return stringBuilder;
+        }
+
+        parent.appendTo(stringBuilder);
+        if (index == KEY) {
+            return stringBuilder.append('[').append(key).append(']');
+        }
+
+        if (segment == null) {
+            return stringBuilder.append('[').append(index).append(']');
+        }
+
+        if (!parent.isRoot()) {
+            stringBuilder.append('.');
+        }
+
+        return stringBuilder.append(segment);
+    }
+
+    @Override
+    public String toString() {
+        String result = path;
+        if (result == null) {
+            result = appendTo(new StringBuilder()).toString();
+            path = result;
+        }
+
+        return result;
+    }
+
+    ValidationRegistration getNotMarkedAsOptional(String context) {
+        ValidationRegistration result = notMarkedAsOptional;
+        if (result == null) {
+            result = ValidationResult.createNotMarkedAsOptional(context, this, this);
+            if (interned && Objects.equals(segment, context)) {
+                notMarkedAsOptional = result;
+            }
+        }
+
+        return result;
+    }
+
+    private ConcurrentMap<String, ValidationPath> getChildren() {
+        ConcurrentMap<String, ValidationPath> result = children;
+        if (result == null) {
+            synchronized (this) {
+                result = children;
+                if (result == null) {
+                    result = new MapMaker().initialCapacity(4).weakValues().makeMap();
+                    children = result;
+                }
+            }
+        }
+
+        return result;
+    }
+}
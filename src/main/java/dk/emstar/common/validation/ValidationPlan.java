@@ -0,0 +1,100 @@
+package dk.emstar.common.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable, compiled validation which can be applied to any number of items. The fluent chain is only walked once
+ * when the plan is built, so applying the plan only allocates the contexts and results of the actual run. Checks of
+ * string and collection properties can be given as {@link StringValidationPlan} and {@link CollectionValidationPlan},
+ * which are plain data instead of callbacks building a fluent chain per item. A plan is thread safe and can be shared.
+ */
+public class ValidationPlan<T> implements Validator<ObjectValidationContext<T>> {
+    private final String context;
+    private final ValidationStep<T>[] steps;
+    private final Class<T> type;
+    private final List<ValidationDefinitionStep> definition;
+    private final Validator<ObjectValidationContext<T>> generatedValidator;
+
+    ValidationPlan(String context, List<ValidationStep<T>> steps) {
+        this(context, steps, null, null);
+    }
+
+    ValidationPlan(String context, List<ValidationStep<T>> steps, Class<T> type, List<ValidationDefinitionStep> definition) {
+        this(context, steps, type, definition, null);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private ValidationPlan(String context, List<ValidationStep<T>> steps, Class<T> type, List<ValidationDefinitionStep> definition,
+            Validator<ObjectValidationContext<T>> generatedValidator) {
+        this.context = context;
+        this.steps = steps.toArray(new ValidationStep[steps.size()]);
+        this.type = type;
+        this.definition = definition == null ? null : Collections.unmodifiableList(new ArrayList<ValidationDefinitionStep>(definition));
+        this.generatedValidator = generatedValidator;
+    }
+
+    public static <T> ValidationPlanBuilder<T> builder(String context) {
+        return new ValidationPlanBuilder<T>(context);
+    }
+
+    public static <T> ValidationPlanBuilder<T> builder(String context, Class<T> type) {
+        if (type == null) {
+            throw new IllegalArgumentException("type is missing");
+        }
+
+        return new ValidationPlanBuilder<T>(context, type);
+    }
+
+    public String getContext() {
+        return context;
+    }
+
+    /**
+     * Generates a validator class for this plan. Only plans built with a type and properties addressed by name can be
+     * generated, and the runtime must provide a Java compiler. Otherwise this plan is returned as it is.
+     */
+    public ValidationPlan<T> compile() {
+        if (isCompiled()) {
+            return this;
+        }
+
+        Validator<ObjectValidationContext<T>> validator = ValidatorGenerator.generate(this);
+        if (validator == null) {
+            return this;
+        }
+
+        return new ValidationPlan<T>(context, Arrays.asList(steps), type, definition, validator);
+    }
+
+    public boolean isCompiled() {
+        return generatedValidator != null;
+    }
+
+    public ValidationResult validateItem(T itemToBeValidated) {
+        return validate(new ObjectValidationContext<T>(context, itemToBeValidated));
+    }
+
+    @Override
+    public ValidationResult validate(ObjectValidationContext<T> validationContext) {
+        if (generatedValidator != null) {
+            return generatedValidator.validate(validationContext);
+        }
+
+        for (ValidationStep<T> step : steps) {
+            step.apply(validationContext);
+        }
+
+        return validationContext.result();
+    }
+
+    Class<T> getType() {
+        return type;
+    }
+
+    List<ValidationDefinitionStep> getDefinition() {
+        return definition;
+    }
+}
@@ -0,0 +1,216 @@
+package dk.emstar.common.validation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import com.google.common.primitives.Primitives;
+
+/**
+ * Describes a {@link ValidationPlan} with the same vocabulary as {@link ObjectValidationContext}. Nested definitions
+ * are compiled into plans of their own when they are registered, not when the plan is applied. A builder created
+ * with the type of the item can also address properties by name, which are resolved once into compiled getters.
+ */
+public class ValidationPlanBuilder<T> {
+    private final String context;
+    private final Class<T> type;
+    private final List<ValidationStep<T>> steps = new ArrayList<ValidationStep<T>>();
+    private List<ValidationDefinitionStep> definition = new ArrayList<ValidationDefinitionStep>();
+
+    ValidationPlanBuilder(String context) {
+        this(context, null);
+    }
+
+    ValidationPlanBuilder(String context, Class<T> type) {
+        this.context = context;
+        this.type = type;
+    }
+
+    public ValidationPlanBuilder<T> asOptional() {
+        return add(ObjectValidationContext::asOptional, ValidationDefinitionStep.asOptional());
+    }
+
+    public ValidationPlanBuilder<T> failWhenMissing() {
+        return add(ObjectValidationContext::failWhenMissing, ValidationDefinitionStep.failWhenMissing());
+    }
+
+    public ValidationPlanBuilder<T> failWhen(Predicate<T> predicate, String failureCode, String message, Object... objects) {
+        if (predicate == null) {
+            throw new IllegalArgumentException("predicate is missing");
+        }
+
+        return add(o -> o.failWhen(predicate, failureCode, message, objects), null);
+    }
+
+    public <V> ValidationPlanBuilder<T> validate(String context, Function<T, V> getter, UnaryOperator<ValidationPlanBuilder<V>> definition) {
+        if (definition == null) {
+            throw new IllegalArgumentException("definition is missing");
+        }
+
+        return validate(context, getter, definition.apply(new ValidationPlanBuilder<V>(context)).build());
+    }
+
+    public <V> ValidationPlanBuilder<T> validate(String context, Function<T, V> getter, ValidationPlan<V> plan) {
+        return validate(context, getter, plan, null);
+    }
+
+    public ValidationPlanBuilder<T> validateString(String context, Function<T, String> getter, ValidateResultEvaluator<StringValidationContext> validator) {
+        if (getter == null) {
+            throw new IllegalArgumentException("getter is missing");
+        }
+
+        if (validator == null) {
+            throw new IllegalArgumentException("validator is missing");
+        }
+
+        return add(o -> o.validateString(context, getter, validator), null);
+    }
+
+    public ValidationPlanBuilder<T> validateString(String context, Function<T, String> getter, int length, Required required) {
+        return validateString(context, getter, length, required, null);
+    }
+
+    public <V> ValidationPlanBuilder<T> validateCollection(String context, Function<T, Collection<V>> getter,
+            ValidateResultEvaluator<CollectionValidationContext<V>> validator) {
+        if (getter == null) {
+            throw new IllegalArgumentException("getter is missing");
+        }
+
+        if (validator == null) {
+            throw new IllegalArgumentException("validator is missing");
+        }
+
+        Validator<CollectionValidationContext<V>> collectionValidator = o -> validator.validate(o).result();
+        return add(o -> o.validateCollection(context, getter, collectionValidator), null);
+    }
+
+    public ValidationPlanBuilder<T> validateString(String context, Function<T, String> getter, StringValidationPlan plan) {
+        if (getter == null) {
+            throw new IllegalArgumentException("getter is missing");
+        }
+
+        if (plan == null) {
+            throw new IllegalArgumentException("plan is missing");
+        }
+
+        return add(o -> o.validateString(context, getter, plan), null);
+    }
+
+    public <V> ValidationPlanBuilder<T> validateCollection(String context, Function<T, Collection<V>> getter, CollectionValidationPlan<V> plan) {
+        if (getter == null) {
+            throw new IllegalArgumentException("getter is missing");
+        }
+
+        if (plan == null) {
+            throw new IllegalArgumentException("plan is missing");
+        }
+
+        return add(o -> o.validateCollection(context, getter, plan), null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> ValidationPlanBuilder<T> validate(String property, UnaryOperator<ValidationPlanBuilder<V>> definition) {
+        if (definition == null) {
+            throw new IllegalArgumentException("definition is missing");
+        }
+
+        Class<V> propertyType = (Class<V>) PropertyAccessors.getType(getType(), property);
+        return validate(property, definition.apply(new ValidationPlanBuilder<V>(property, propertyType)).build());
+    }
+
+    public <V> ValidationPlanBuilder<T> validate(String property, ValidationPlan<V> plan) {
+        if (plan == null) {
+            throw new IllegalArgumentException("plan is missing");
+        }
+
+        Function<T, V> getter = plan.getType() == null ? this.<V>getter(property) : this.<V>getter(property, plan.getType());
+        return validate(property, getter, plan, ValidationDefinitionStep.validate(property, plan));
+    }
+
+    public ValidationPlanBuilder<T> validateString(String property, ValidateResultEvaluator<StringValidationContext> validator) {
+        return validateString(property, this.<String>getter(property, String.class), validator);
+    }
+
+    public ValidationPlanBuilder<T> validateString(String property, int length, Required required) {
+        return validateString(property, this.<String>getter(property, String.class), length, required,
+                ValidationDefinitionStep.validateString(property, length, required));
+    }
+
+    public <V> ValidationPlanBuilder<T> validateCollection(String property, ValidateResultEvaluator<CollectionValidationContext<V>> validator) {
+        return validateCollection(property, this.<Collection<V>>getter(property, Collection.class), validator);
+    }
+
+    public ValidationPlanBuilder<T> validateString(String property, StringValidationPlan plan) {
+        return validateString(property, this.<String>getter(property, String.class), plan);
+    }
+
+    public <V> ValidationPlanBuilder<T> validateCollection(String property, CollectionValidationPlan<V> plan) {
+        return validateCollection(property, this.<Collection<V>>getter(property, Collection.class), plan);
+    }
+
+    public ValidationPlan<T> build() {
+        return new ValidationPlan<T>(context, steps, type, definition);
+    }
+
+    private <V> ValidationPlanBuilder<T> validate(String context, Function<T, V> getter, ValidationPlan<V> plan,
+            ValidationDefinitionStep definitionStep) {
+        if (getter == null) {
+            throw new IllegalArgumentException("getter is missing");
+        }
+
+        if (plan == null) {
+            throw new IllegalArgumentException("plan is missing");
+        }
+
+        return add(o -> o.validate(context, getter, plan), definitionStep);
+    }
+
+    private ValidationPlanBuilder<T> validateString(String context, Function<T, String> getter, int length, Required required,
+            ValidationDefinitionStep definitionStep) {
+        if (getter == null) {
+            throw new IllegalArgumentException("getter is missing");
+        }
+
+        if (required == null) {
+            throw new IllegalArgumentException("required is missing");
+        }
+
+        return add(o -> o.validateString(context, getter, length, required), definitionStep);
+    }
+
+    private ValidationPlanBuilder<T> add(ValidationStep<T> step, ValidationDefinitionStep definitionStep) {
+        steps.add(step);
+        if (definitionStep == null) {
+            definition = null;
+        } else if (definition != null) {
+            definition.add(definitionStep);
+        }
+
+        return this;
+    }
+
+    private <V> Function<T, V> getter(String property) {
+        return PropertyAccessors.getter(getType(), property);
+    }
+
+    private <V> Function<T, V> getter(String property, Class<?> expectedType) {
+        Class<?> propertyType = PropertyAccessors.getType(getType(), property);
+        if (!expectedType.isAssignableFrom(Primitives.wrap(propertyType))) {
+            throw new IllegalArgumentException("property " + property + " on " + getType().getName() + " is a " + propertyType.getName()
+                    + ", not a " + expectedType.getName());
+        }
+
+        return getter(property);
+    }
+
+    private Class<T> getType() {
+        if (type == null) {
+            throw new IllegalStateException("type is missing, properties can only be addressed by name when the builder has a type");
+        }
+
+        return type;
+    }
+}
@@ -1,8 +1,7 @@
 package dk.emstar.common.validation;
 
-import java.text.MessageFormat;
-import java.util.Arrays;
-import java.util.stream.Collectors;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 public class ValidationRegistration {
 
@@ -10,16 +9,21 @@ public class ValidationRegistration {
     private final String validationMessage;
     private final Object[] input;
     private final ValidationLevel validationLevel;
-    private final String location;
+    private final ValidationPath location;
     private final String context;
-    private final String contextPath;
+    private final ValidationPath contextPath;
 
     public ValidationRegistration(String validationCode, String validationMessage, ValidationLevel validationLevel, Object... input) {
-        this(validationCode, validationMessage, null, null, null, validationLevel, input);
+        this(validationCode, validationMessage, null, (ValidationPath) null, (ValidationPath) null, validationLevel, input);
     }
 
     public ValidationRegistration(String validationCode, String validationMessage, String context, String location, String contextPath,
             ValidationLevel validationLevel, Object... input) {
+        this(validationCode, validationMessage, context, toPath(location), toPath(contextPath), validationLevel, input);
+    }
+
+    public ValidationRegistration(String validationCode, String validationMessage, String context, ValidationPath location,
+            ValidationPath contextPath, ValidationLevel validationLevel, Object... input) {
         this.validationCode = validationCode;
         this.validationMessage = validationMessage;
         this.context = context;
@@ -46,22 +50,44 @@ public class ValidationRegistration {
     }
 
     public String getDetails() {
-        String inputAsString = "";
+        return appendDetailsTo(new StringBuilder()).toString();
+    }
+
+    public StringBuilder appendDetailsTo(StringBuilder stringBuilder) {
+        try {
+            appendDetailsTo((Appendable) stringBuilder);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return stringBuilder;
+    }
+
+    public void appendDetailsTo(Appendable appendable) throws IOException {
+        appendable.append('[').append(getContextPath()).append('#').append(validationCode).append(" - ").append(validationMessage);
         if (input != null && input.length > 0) {
-            inputAsString = MessageFormat.format(": input: {0}",
-                    Arrays.asList(input).stream().map(o -> o == null ? "" : o.toString()).collect(Collectors.joining(", ")));
+            appendable.append(": input: ");
+            for (int i = 0; i < input.length; i++) {
+                if (i > 0) {
+                    appendable.append(", ");
+                }
+
+                if (input[i] != null) {
+                    appendable.append(input[i].toString());
+                }
+            }
         }
 
-        return MessageFormat.format("[{0}#{1} - {2}{3}]", getContextPath(), getValidationCode(), getValidationMessage(), inputAsString);
+        appendable.append(']');
     }
 
     @Override
     public String toString() {
-        return MessageFormat.format("[{0} - {1}]", getValidationCode(), getValidationMessage());
+        return new StringBuilder().append('[').append(validationCode).append(" - ").append(validationMessage).append(']').toString();
     }
 
     public String getLocation() {
-        return location;
+        return location == null ? null : location.toString();
     }
 
     public String getContext() {
@@ -69,6 +95,10 @@ public class ValidationRegistration {
     }
 
     public String getContextPath() {
-        return contextPath;
+        return contextPath == null ? null : contextPath.toString();
+    }
+
+    private static ValidationPath toPath(String path) {
+        return path == null ? null : ValidationPath.of(path);
     }
 }
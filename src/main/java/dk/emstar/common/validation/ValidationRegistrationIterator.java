@@ -1,18 +1,45 @@
 package dk.emstar.common.validation;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
+/**
+ * Iterates the registrations of a result and its sub results in place, with the registrations of a sub result where
+ * it was registered. Nothing is copied, and an explicit stack is used instead of recursion.
+ */
 public class ValidationRegistrationIterator implements Iterator<ValidationRegistration> {
 
+    private final Deque<Position> positions = new ArrayDeque<Position>();
     private final Iterator<Object> iterator;
-    private ValidationRegistration nextItem = null;
-    private Iterator<ValidationRegistration> subIterator;
+    private ValidationRegistration nextItem;
 
+    /**
+     * Iterates elements which are either registrations or results, flattening the results.
+     *
+     * @deprecated use {@link ValidationResult#iterator()}
+     */
+    @Deprecated
     public ValidationRegistrationIterator(Iterator<Object> iterator) {
+        if (iterator == null) {
+            throw new IllegalArgumentException("iterator is missing");
+        }
+
         this.iterator = iterator;
         findNext();
     }
 
+    public ValidationRegistrationIterator(ValidationResult validationResult) {
+        if (validationResult == null) {
+            throw new IllegalArgumentException("validation result is missing");
+        }
+
+        this.iterator = null;
+        positions.push(new Position(validationResult));
+        findNext();
+    }
+
     @Override
     public boolean hasNext() {
         return nextItem != null;
@@ -20,35 +47,51 @@ public class ValidationRegistrationIterator implements Iterator<ValidationRegist
 
     @Override
     public ValidationRegistration next() {
+        if (nextItem == null) {
+            throw new NoSuchElementException();
+        }
+
         ValidationRegistration result = nextItem;
         findNext();
         return result;
     }
 
-    @SuppressWarnings("resource")
     private void findNext() {
-        if (subIterator != null && subIterator.hasNext()) {
-            nextItem = subIterator.next();
-            return;
-        }
+        while (!positions.isEmpty() || iterator != null && iterator.hasNext()) {
+            if (positions.isEmpty()) {
+                Object element = iterator.next();
+                if (element instanceof ValidationRegistration) {
+                    nextItem = (ValidationRegistration) element;
+                    return;
+                }
 
-        while (iterator.hasNext()) { // find next
-            Object element = iterator.next();
-            // use its erasure object instead
-            if (element instanceof ValidationRegistration) {
-                nextItem = (ValidationRegistration) element;
+                positions.push(new Position((ValidationResult) element));
+                continue;
+            }
+
+            Position position = positions.peek();
+            ValidationResult validationResult = position.validationResult;
+            if (position.subResultIndex < validationResult.subResultCount
+                    && validationResult.subResultPositions[position.subResultIndex] == position.registrationIndex) {
+                positions.push(new Position(validationResult.subResults[position.subResultIndex++]));
+            } else if (position.registrationIndex < validationResult.registrationCount) {
+                nextItem = validationResult.validationRegistrations[position.registrationIndex++];
                 return;
             } else {
-                ValidationResult listElement = (ValidationResult) element;
-                Iterator<ValidationRegistration> flatIteratorForListElement = listElement.iterator();
-                if (flatIteratorForListElement.hasNext()) {
-                    nextItem = flatIteratorForListElement.next();
-                    this.subIterator = flatIteratorForListElement;
-                    return;
-                }
+                positions.pop();
             }
         }
 
         nextItem = null;
     }
+
+    private static final class Position {
+        private final ValidationResult validationResult;
+        private int registrationIndex;
+        private int subResultIndex;
+
+        private Position(ValidationResult validationResult) {
+            this.validationResult = validationResult;
+        }
+    }
 }
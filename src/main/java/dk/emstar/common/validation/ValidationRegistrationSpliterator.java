@@ -0,0 +1,141 @@
+package dk.emstar.common.validation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Splits the registrations of a result and its sub results in place. The remaining registrations are a sequence of
+ * runs of own registrations and of sub results not yet opened. A split hands over the first half of that sequence by
+ * size, opening a sub result or halving a run only when a single one is left, so nested results split as evenly as
+ * flat ones.
+ */
+final class ValidationRegistrationSpliterator implements Spliterator<ValidationRegistration> {
+
+    private final ArrayDeque<Object> segments;
+    private long size;
+
+    ValidationRegistrationSpliterator(ValidationResult validationResult) {
+        this(new ArrayDeque<Object>(), validationResult.getRegistrationCount());
+        segments.add(validationResult);
+    }
+
+    private ValidationRegistrationSpliterator(ArrayDeque<Object> segments, long size) {
+        this.segments = segments;
+        this.size = size;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super ValidationRegistration> action) {
+        while (!segments.isEmpty()) {
+            Object segment = segments.peekFirst();
+            if (segment instanceof Run) {
+                Run run = (Run) segment;
+                ValidationRegistration validationRegistration = run.validationRegistrations[run.from++];
+                if (run.from == run.to) {
+                    segments.pollFirst();
+                }
+
+                size--;
+                action.accept(validationRegistration);
+                return true;
+            }
+
+            segments.pollFirst();
+            open((ValidationResult) segment);
+        }
+
+        return false;
+    }
+
+    @Override
+    public Spliterator<ValidationRegistration> trySplit() {
+        if (size < 2) {
+            return null;
+        }
+
+        while (segments.size() == 1) {
+            Object segment = segments.peekFirst();
+            if (segment instanceof Run) {
+                Run run = (Run) segment;
+                int middle = run.from + (run.to - run.from) / 2;
+                ArrayDeque<Object> prefix = new ArrayDeque<Object>();
+                prefix.add(new Run(run.validationRegistrations, run.from, middle));
+                long prefixSize = middle - run.from;
+                run.from = middle;
+                size -= prefixSize;
+                return new ValidationRegistrationSpliterator(prefix, prefixSize);
+            }
+
+            segments.pollFirst();
+            open((ValidationResult) segment);
+        }
+
+        ArrayDeque<Object> prefix = new ArrayDeque<Object>();
+        long prefixSize = 0;
+        while (segments.size() > 1 && prefixSize < size / 2) {
+            Object segment = segments.pollFirst();
+            prefix.add(segment);
+            prefixSize += sizeOf(segment);
+        }
+
+        size -= prefixSize;
+        return new ValidationRegistrationSpliterator(prefix, prefixSize);
+    }
+
+    @Override
+    public long estimateSize() {
+        return size;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+
+    private void open(ValidationResult validationResult) {
+        List<Object> opened = new ArrayList<Object>(validationResult.subResultCount * 2 + 1);
+        int from = 0;
+        for (int i = 0; i < validationResult.subResultCount; i++) {
+            int position = validationResult.subResultPositions[i];
+            if (position > from) {
+                opened.add(new Run(validationResult.validationRegistrations, from, position));
+                from = position;
+            }
+
+            if (validationResult.subResults[i].getRegistrationCount() > 0) {
+                opened.add(validationResult.subResults[i]);
+            }
+        }
+
+        if (validationResult.registrationCount > from) {
+            opened.add(new Run(validationResult.validationRegistrations, from, validationResult.registrationCount));
+        }
+
+        for (int i = opened.size() - 1; i >= 0; i--) {
+            segments.addFirst(opened.get(i));
+        }
+    }
+
+    private static long sizeOf(Object segment) {
+        if (segment instanceof Run) {
+            return ((Run) segment).to - ((Run) segment).from;
+        }
+
+        return ((ValidationResult) segment).getRegistrationCount();
+    }
+
+    private static final class Run {
+        private final ValidationRegistration[] validationRegistrations;
+        private int from;
+        private final int to;
+
+        private Run(ValidationRegistration[] validationRegistrations, int from, int to) {
+            this.validationRegistrations = validationRegistrations;
+            this.from = from;
+            this.to = to;
+        }
+    }
+}
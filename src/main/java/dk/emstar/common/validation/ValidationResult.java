@@ -1,72 +1,177 @@
 package dk.emstar.common.validation;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
-import com.google.common.base.Joiner;
-import com.google.common.base.Strings;
-
 public class ValidationResult implements Iterable<ValidationRegistration> {
 
     private static Object[] NULL_ARRAY = new Object[] {};
 
-    private final List<Object> validationResults;
+    private static final ValidationRegistration[] NO_REGISTRATIONS = new ValidationRegistration[] {};
+
+    private static final ValidationResult[] NO_SUB_RESULTS = new ValidationResult[] {};
+
+    private static final int[] NO_POSITIONS = new int[] {};
+
+    ValidationRegistration[] validationRegistrations = NO_REGISTRATIONS;
+
+    int registrationCount;
+
+    ValidationResult[] subResults = NO_SUB_RESULTS;
+
+    int[] subResultPositions = NO_POSITIONS;
+
+    int subResultCount;
+
+    private int size;
 
     public static final String UNKNOWN_ERROR = "9999";
 
     private final String context;
 
-    private final String contextPath;
+    private final ValidationPath path;
+
+    private final ValidationPath location;
+
+    private final ValidationRun run;
+
+    private ValidationResult parent;
 
-    private final String location;
+    private int failureCount;
+
+    private int warningCount;
+
+    private Map<String, Integer> validationCodeCounts;
+
+    private Map<String, List<ValidationRegistration>> validationCodeIndex;
 
     public ValidationResult() {
         this("N/A", "N/A", "N/A");
     }
 
     public ValidationResult(String context, String contextPath, String location) {
+        this(context, ValidationPath.of(contextPath).child(context), ValidationPath.of(location));
+    }
+
+    public ValidationResult(String context, ValidationPath path, ValidationPath location) {
+        this(context, path, location, new ValidationRun(ValidationOptions.DEFAULT));
+    }
+
+    ValidationResult(String context, ValidationPath path, ValidationPath location, ValidationRun run) {
         this.context = context;
-        this.contextPath = contextPath;
+        this.path = path;
         this.location = location;
-        validationResults = new ArrayList<Object>();
+        this.run = run;
     }
 
     public void register(ValidationRegistration validationRegistration) {
-        validationResults.add(validationRegistration);
+        run.registered(validationRegistration);
+        add(validationRegistration);
     }
 
     public void register(ValidationResult validationResult) {
-        validationResults.add(validationResult);
+        if (validationResult == null) {
+            throw new IllegalArgumentException("validation result is missing");
+        }
+
+        if (validationResult.parent != null) {
+            throw new IllegalStateException("validation result is already registered in " + validationResult.parent.getCompletePath());
+        }
+
+        for (ValidationResult current = this; current != null; current = current.parent) {
+            if (current == validationResult) {
+                throw new IllegalStateException("validation result cannot be registered in itself");
+            }
+        }
+
+        validationResult.parent = this;
+        if (run.isRetainRegistrations()) {
+            attach(validationResult);
+        }
+
+        for (ValidationResult current = this; current != null; current = current.parent) {
+            current.size += validationResult.size;
+            current.count(validationResult);
+            current.index(validationResult);
+        }
     }
 
     public ValidationResult registerAll(ValidationResult validationResult) {
-        validationResult.forEach(validationResults::add);
+        validationResult.forEach(this::add);
         return this;
     }
 
     @Override
     public Iterator<ValidationRegistration> iterator() {
-        return new ValidationRegistrationIterator(validationResults.iterator());
+        return new ValidationRegistrationIterator(this);
+    }
+
+    @Override
+    public Spliterator<ValidationRegistration> spliterator() {
+        if (subResultCount == 0) {
+            return Spliterators.spliterator(validationRegistrations, 0, registrationCount, Spliterator.ORDERED | Spliterator.NONNULL);
+        }
+
+        return new ValidationRegistrationSpliterator(this);
     }
 
     public Stream<ValidationRegistration> stream() {
         return StreamSupport.stream(this.spliterator(), false);
     }
 
+    public Stream<ValidationRegistration> parallelStream() {
+        return StreamSupport.stream(this.spliterator(), true);
+    }
+
+    public boolean isStopped() {
+        return run.isStopped();
+    }
+
+    public ValidationOptions getValidationOptions() {
+        return run.getOptions();
+    }
+
+    public int getRegistrationCount() {
+        return size;
+    }
+
     public boolean hasFailure() {
-        return stream().anyMatch(o -> ValidationLevel.Failure.equals(o.getValidationLevel()));
+        return failureCount > 0;
     }
 
     public boolean hasWarning() {
-        return stream().anyMatch(o -> ValidationLevel.Warning.equals(o.getValidationLevel()));
+        return warningCount > 0;
     }
 
     public boolean hasValidationCode(String validationCode) {
-        return findValidationCode(validationCode) != null;
+        return getValidationCodeCount(validationCode) > 0;
+    }
+
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    public int getWarningCount() {
+        return warningCount;
+    }
+
+    public int getValidationCodeCount(String validationCode) {
+        if (validationCodeCounts == null) {
+            return 0;
+        }
+
+        Integer count = validationCodeCounts.get(validationCode);
+        return count == null ? 0 : count;
     }
 
     public List<String> getAllDetails() {
@@ -74,36 +179,110 @@ public class ValidationResult implements Iterable<ValidationRegistration> {
     }
 
     public String getCompletePath() {
-        return Joiner.on(".").skipNulls().join(Strings.isNullOrEmpty(contextPath) ? null : contextPath, context);
+        return path.toString();
+    }
+
+    public ValidationPath getPath() {
+        return path;
     }
 
     public String getLocation() {
+        return location.toString();
+    }
+
+    public ValidationPath getLocationPath() {
         return location;
     }
 
     public String getAllDetailsAsString() {
-        return Joiner.on(", ").join(getAllDetails());
+        return appendAllDetailsTo(new StringBuilder()).toString();
+    }
+
+    public StringBuilder appendAllDetailsTo(StringBuilder stringBuilder) {
+        boolean first = true;
+        for (ValidationRegistration validationRegistration : this) {
+            if (!first) {
+                stringBuilder.append(", ");
+            }
+
+            validationRegistration.appendDetailsTo(stringBuilder);
+            first = false;
+        }
+
+        return stringBuilder;
+    }
+
+    public ValidationResult indexValidationCodes() {
+        if (validationCodeIndex == null) {
+            validationCodeIndex = new HashMap<String, List<ValidationRegistration>>();
+            forEach(this::index);
+        }
+
+        return this;
+    }
+
+    public boolean isValidationCodesIndexed() {
+        return validationCodeIndex != null;
     }
 
     public ValidationRegistration findValidationCode(String validationCode) {
+        if (!hasValidationCode(validationCode)) {
+            return null;
+        }
+
+        if (validationCodeIndex != null) {
+            List<ValidationRegistration> validationRegistrations = validationCodeIndex.get(validationCode);
+            return validationRegistrations == null ? null : validationRegistrations.get(0);
+        }
+
         return stream().filter(o -> validationCode.equals(o.getValidationCode())).findFirst().orElse(null);
     }
 
+    public List<ValidationRegistration> findAllValidationCode(String validationCode) {
+        if (!hasValidationCode(validationCode)) {
+            return Collections.emptyList();
+        }
+
+        if (validationCodeIndex != null) {
+            List<ValidationRegistration> validationRegistrations = validationCodeIndex.get(validationCode);
+            return validationRegistrations == null ? Collections.emptyList() : Collections.unmodifiableList(validationRegistrations);
+        }
+
+        return stream().filter(o -> validationCode.equals(o.getValidationCode())).collect(Collectors.toList());
+    }
+
     public ValidationResult registerNullValidation(String validationCode, String validationMessage) {
-        register(new ValidationRegistration(validationCode, validationMessage, context, getLocation(), getCompletePath(), ValidationLevel.Failure, NULL_ARRAY));
+        register(new ValidationRegistration(validationCode, validationMessage, context, location, path, ValidationLevel.Failure, NULL_ARRAY));
         return this;
     }
 
     public ValidationResult registerValidationFailure(String validationCode, String validationMessage, Object... input) {
-        register(new ValidationRegistration(validationCode, validationMessage, context, getLocation(), getCompletePath(), ValidationLevel.Failure, input));
+        register(new ValidationRegistration(validationCode, validationMessage, context, location, path, ValidationLevel.Failure, input));
         return this;
     }
 
     public ValidationResult registerValidationWarning(String validationCode, String validationMessage, Object... input) {
-        register(new ValidationRegistration(validationCode, validationMessage, context, getLocation(), getCompletePath(), ValidationLevel.Warning, input));
+        register(new ValidationRegistration(validationCode, validationMessage, context, location, path, ValidationLevel.Warning, input));
+        return this;
+    }
+
+    ValidationResult registerNotMarkedAsOptional() {
+        return registerNotMarkedAsOptional(context, location, path);
+    }
+
+    ValidationResult registerNotMarkedAsOptional(String context, ValidationPath location, ValidationPath path) {
+        if (run.getOptions().isNotMarkedAsOptionalWarnings()) {
+            register(location == path ? path.getNotMarkedAsOptional(context) : createNotMarkedAsOptional(context, location, path));
+        }
+
         return this;
     }
 
+    static ValidationRegistration createNotMarkedAsOptional(String context, ValidationPath location, ValidationPath path) {
+        return new ValidationRegistration(ValidationResultProvider.NOT_MARKED_AS_OPTIONAL, "not marked as optional but is null", context, location, path,
+                ValidationLevel.Warning, NULL_ARRAY);
+    }
+
     public ValidationResult conclude(Conclusion conclusion) {
         conclusion.conclude(new ThrowableValidationResult(this));
         return this;
@@ -112,10 +291,97 @@ public class ValidationResult implements Iterable<ValidationRegistration> {
     
     @Override
     public String toString() {
-        return String.format("{%s:%s}", context, validationResults.stream().map(Object::toString).collect(Collectors.joining(", ")));
+        return String.format("{%s:%s}", context, stream().map(Object::toString).collect(Collectors.joining(", ")));
     }
 
     public String getContext() {
         return context;
     }
+
+    ValidationRun getRun() {
+        return run;
+    }
+
+    private void add(ValidationRegistration validationRegistration) {
+        boolean retained = append(validationRegistration);
+        for (ValidationResult current = this; current != null; current = current.parent) {
+            if (retained) {
+                current.size++;
+            }
+
+            current.count(validationRegistration);
+            current.index(validationRegistration);
+        }
+    }
+
+    private boolean append(ValidationRegistration validationRegistration) {
+        if (!run.isRetainRegistrations()) {
+            return false;
+        }
+
+        if (registrationCount == validationRegistrations.length) {
+            validationRegistrations = Arrays.copyOf(validationRegistrations, Math.max(4, registrationCount * 2));
+        }
+
+        validationRegistrations[registrationCount++] = validationRegistration;
+        return true;
+    }
+
+    private void attach(ValidationResult validationResult) {
+        if (subResultCount == subResults.length) {
+            int capacity = Math.max(4, subResultCount * 2);
+            subResults = Arrays.copyOf(subResults, capacity);
+            subResultPositions = Arrays.copyOf(subResultPositions, capacity);
+        }
+
+        subResults[subResultCount] = validationResult;
+        subResultPositions[subResultCount++] = registrationCount;
+    }
+
+    private void count(ValidationRegistration validationRegistration) {
+        if (ValidationLevel.Failure.equals(validationRegistration.getValidationLevel())) {
+            failureCount++;
+        } else if (ValidationLevel.Warning.equals(validationRegistration.getValidationLevel())) {
+            warningCount++;
+        }
+
+        countValidationCode(validationRegistration.getValidationCode(), 1);
+    }
+
+    private void count(ValidationResult validationResult) {
+        failureCount += validationResult.failureCount;
+        warningCount += validationResult.warningCount;
+        if (validationResult.validationCodeCounts != null) {
+            validationResult.validationCodeCounts.forEach(this::countValidationCode);
+        }
+    }
+
+    private void index(ValidationRegistration validationRegistration) {
+        if (validationCodeIndex != null) {
+            validationCodeIndex.computeIfAbsent(validationRegistration.getValidationCode(), o -> new ArrayList<ValidationRegistration>())
+                .add(validationRegistration);
+        }
+    }
+
+    private void index(ValidationResult validationResult) {
+        if (validationCodeIndex == null) {
+            return;
+        }
+
+        if (validationResult.validationCodeIndex != null) {
+            validationResult.validationCodeIndex.forEach((validationCode, validationRegistrations) -> validationCodeIndex
+                .computeIfAbsent(validationCode, o -> new ArrayList<ValidationRegistration>())
+                .addAll(validationRegistrations));
+        } else {
+            validationResult.forEach(this::index);
+        }
+    }
+
+    private void countValidationCode(String validationCode, int count) {
+        if (validationCodeCounts == null) {
+            validationCodeCounts = new HashMap<String, Integer>();
+        }
+
+        validationCodeCounts.merge(validationCode, count, Integer::sum);
+    }
 }
@@ -8,12 +8,27 @@ public interface ValidationResultProvider {
     String NOT_MARKED_AS_OPTIONAL = "VALRES-3";
     String IS_EMPTY = "VALRES-4";
     String MISMATCH = "VALRES-5";
+    String MISSING_KEY = "VALRES-6";
+    String FORBIDDEN_KEY = "VALRES-7";
+    String DUPLICATE = "VALRES-8";
+
+    String LESS_THAN = "VALRES-10";
+    String GREATER_THAN = "VALRES-11";
+    String BETWEEN = "VALRES-12";
+    String NOT_BETWEEN = "VALRES-13";
+    String NOT_FINITE = "VALRES-14";
     
     String AFTER_TEMPORAL = "VALRES-20";
     String BEFORE_TEMPORAL = "VALRES-21";
     String BETWEEN_TEMPORAL = "VALRES-22";
     String NOT_BETWEEN_TEMPORAL = "VALRES-23";
 
+    String SUM_GREATER_THAN = "VALRES-30";
+    String COUNT_GREATER_THAN = "VALRES-31";
+    String MINIMUM_LESS_THAN = "VALRES-32";
+    String MAXIMUM_GREATER_THAN = "VALRES-33";
+    String NOT_SORTED = "VALRES-34";
+
 
     ValidationResult result();
 }
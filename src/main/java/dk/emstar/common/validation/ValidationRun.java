@@ -0,0 +1,53 @@
+package dk.emstar.common.validation;
+
+/**
+ * The state shared by all results of one validation tree.
+ */
+class ValidationRun {
+    private final ValidationOptions options;
+    private final ValidationSink sink;
+    private volatile boolean stopped;
+
+    ValidationRun(ValidationOptions options) {
+        this(options, options.getSink());
+    }
+
+    private ValidationRun(ValidationOptions options, ValidationSink sink) {
+        this.options = options;
+        this.sink = sink;
+    }
+
+    ValidationOptions getOptions() {
+        return options;
+    }
+
+    boolean isStopped() {
+        return stopped;
+    }
+
+    boolean isRetainRegistrations() {
+        return options.isRetainRegistrations();
+    }
+
+    void registered(ValidationRegistration validationRegistration) {
+        if (options.isFailFast() && ValidationLevel.Failure.equals(validationRegistration.getValidationLevel())) {
+            stopped = true;
+        }
+
+        if (sink != null) {
+            sink.accept(validationRegistration);
+        }
+    }
+
+    void stop() {
+        stopped = true;
+    }
+
+    /**
+     * Returns a run with the same options which stops on its own, and whose registrations go to the given sink instead
+     * of the sink of the options.
+     */
+    ValidationRun detach(ValidationSink sink) {
+        return new ValidationRun(options, options.getSink() == null ? null : sink);
+    }
+}
@@ -0,0 +1,10 @@
+package dk.emstar.common.validation;
+
+/**
+ * Receives every registration of a validation as soon as it is registered. A sink is shared by all validations of
+ * the options it is set on, and must be thread safe when those validations run concurrently.
+ */
+@FunctionalInterface
+public interface ValidationSink {
+    void accept(ValidationRegistration validationRegistration);
+}
@@ -0,0 +1,6 @@
+package dk.emstar.common.validation;
+
+@FunctionalInterface
+interface ValidationStep<T> {
+    void apply(ObjectValidationContext<T> validationContext);
+}
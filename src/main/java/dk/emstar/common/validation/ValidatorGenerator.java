@@ -0,0 +1,368 @@
+package dk.emstar.common.validation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * Generates the source of a straight-line {@link GeneratedValidator} from the definition of a {@link ValidationPlan},
+ * compiles it with the compiler of the runtime and defines the class. The generated code follows the interpreted
+ * contexts check by check, so both produce the same registrations in the same order.
+ */
+final class ValidatorGenerator {
+    private static final String PACKAGE = "dk.emstar.common.validation.generated";
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private final Set<Class<?>> types = new LinkedHashSet<Class<?>>();
+    private final StringBuilder fields = new StringBuilder();
+    private final StringBuilder body = new StringBuilder();
+    private int nodes;
+
+    private ValidatorGenerator() {
+        types.add(GeneratedValidator.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Validator<ObjectValidationContext<T>> generate(ValidationPlan<T> plan) {
+        if (plan.getType() == null || plan.getDefinition() == null) {
+            return null;
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            return null;
+        }
+
+        ValidatorGenerator generator = new ValidatorGenerator();
+        String simpleName = plan.getType().getSimpleName() + "Validator" + COUNTER.incrementAndGet();
+        String source = generator.generateSource(simpleName, plan);
+        if (source == null) {
+            return null;
+        }
+
+        ClassLoader parent = generator.findClassLoader(plan.getType());
+        if (parent == null) {
+            return null;
+        }
+
+        Map<String, byte[]> classes = generator.compile(compiler, PACKAGE + "." + simpleName, source);
+        if (classes == null) {
+            return null;
+        }
+
+        try {
+            GeneratedClassLoader classLoader = new GeneratedClassLoader(parent);
+            Class<?> validatorClass = classLoader.define(PACKAGE + "." + simpleName, classes.get(PACKAGE + "." + simpleName));
+            return (Validator<ObjectValidationContext<T>>) validatorClass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private String generateSource(String simpleName, ValidationPlan<?> plan) {
+        if (!isPublic(plan.getType())) {
+            return null;
+        }
+
+        types.add(plan.getType());
+        String typeName = plan.getType().getCanonicalName();
+        body.append("    @Override\n");
+        body.append("    protected void validate(").append(typeName).append(" item0, boolean optional0, ValidationResult result) {\n");
+        body.append("        boolean reported0 = false;\n");
+        int root = createNode(Collections.<String>emptyList());
+        if (!appendSteps(plan.getType(), plan.getDefinition(), root, Collections.<String>emptyList(), "        ")) {
+            return null;
+        }
+
+        body.append("    }\n");
+
+        return new StringBuilder()
+            .append("package ").append(PACKAGE).append(";\n\n")
+            .append("import dk.emstar.common.validation.GeneratedValidator;\n")
+            .append("import dk.emstar.common.validation.ValidationResult;\n\n")
+            .append("public final class ").append(simpleName).append(" extends GeneratedValidator<").append(typeName).append("> {\n")
+            .append(fields).append('\n')
+            .append(body)
+            .append("}\n")
+            .toString();
+    }
+
+    private boolean appendSteps(Class<?> type, List<ValidationDefinitionStep> definition, int node, List<String> segments, String indent) {
+        for (ValidationDefinitionStep step : definition) {
+            switch (step.getKind()) {
+            case AsOptional:
+                body.append(indent).append("optional").append(node).append(" = true;\n");
+                break;
+            case FailWhenMissing:
+                appendFailWhenMissing(node, indent);
+                break;
+            case ValidateString:
+                if (!appendValidateString(type, step, node, segments, indent)) {
+                    return false;
+                }
+                break;
+            case Validate:
+                if (!appendValidate(type, step, node, segments, indent)) {
+                    return false;
+                }
+                break;
+            default:
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private void appendFailWhenMissing(int node, String indent) {
+        body.append(indent).append("if (!result.isStopped() && item").append(node).append(" == null) {\n");
+        body.append(indent).append("    registerMissing(result, SEGMENTS").append(node).append(");\n");
+        body.append(indent).append("}\n");
+    }
+
+    private boolean appendValidateString(Class<?> type, ValidationDefinitionStep step, int node, List<String> segments, String indent) {
+        Method readMethod = findReadMethod(type, step.getProperty());
+        if (readMethod == null || !String.class.equals(readMethod.getReturnType())) {
+            return false;
+        }
+
+        int child = createNode(append(segments, step.getProperty()));
+        String inner = indent + "        ";
+        body.append(indent).append("if (!result.isStopped()) {\n");
+        body.append(indent).append("    if (item").append(node).append(" != null) {\n");
+        body.append(inner).append("String item").append(child).append(" = item").append(node).append('.').append(readMethod.getName()).append("();\n");
+        if (Required.Mandatory.equals(step.getRequired())) {
+            appendFailWhenMissing(child, inner);
+        }
+
+        body.append(inner).append("if (!result.isStopped()) {\n");
+        body.append(inner).append("    if (item").append(child).append(" != null && item").append(child).append(".length() > ")
+            .append(step.getLength()).append(") {\n");
+        body.append(inner).append("        registerTooLong(result, SEGMENTS").append(child).append(", item").append(child).append(");\n");
+        body.append(inner).append("    }\n");
+        if (!Required.Optional.equals(step.getRequired())) {
+            body.append(inner).append("    if (item").append(child).append(" == null && !result.isStopped()) {\n");
+            body.append(inner).append("        registerNotMarkedAsOptional(result, SEGMENTS").append(child).append(");\n");
+            body.append(inner).append("    }\n");
+        }
+
+        body.append(inner).append("}\n");
+        body.append(indent).append("    }\n");
+        appendNotMarkedAsOptional(node, indent + "    ");
+        body.append(indent).append("}\n");
+        return true;
+    }
+
+    private boolean appendValidate(Class<?> type, ValidationDefinitionStep step, int node, List<String> segments, String indent) {
+        Method readMethod = findReadMethod(type, step.getProperty());
+        ValidationPlan<?> plan = step.getPlan();
+        if (readMethod == null || plan.getType() == null || plan.getDefinition() == null || !isPublic(plan.getType())
+                || !plan.getType().isAssignableFrom(readMethod.getReturnType())) {
+            return false;
+        }
+
+        types.add(plan.getType());
+        List<String> childSegments = append(segments, step.getProperty());
+        int child = createNode(childSegments);
+        String inner = indent + "        ";
+        body.append(indent).append("if (!result.isStopped()) {\n");
+        body.append(indent).append("    if (item").append(node).append(" != null) {\n");
+        body.append(inner).append(plan.getType().getCanonicalName()).append(" item").append(child).append(" = item").append(node).append('.')
+            .append(readMethod.getName()).append("();\n");
+        body.append(inner).append("boolean optional").append(child).append(" = false;\n");
+        body.append(inner).append("boolean reported").append(child).append(" = false;\n");
+        if (!appendSteps(plan.getType(), plan.getDefinition(), child, childSegments, inner)) {
+            return false;
+        }
+
+        body.append(indent).append("    }\n");
+        appendNotMarkedAsOptional(node, indent + "    ");
+        body.append(indent).append("}\n");
+        return true;
+    }
+
+    private void appendNotMarkedAsOptional(int node, String indent) {
+        body.append(indent).append("if (item").append(node).append(" == null && !optional").append(node).append(" && !reported").append(node)
+            .append(" && !result.isStopped()) {\n");
+        body.append(indent).append("    reported").append(node).append(" = true;\n");
+        body.append(indent).append("    registerNotMarkedAsOptional(result, SEGMENTS").append(node).append(");\n");
+        body.append(indent).append("}\n");
+    }
+
+    private int createNode(List<String> segments) {
+        int node = nodes++;
+        fields.append("    private static final String[] SEGMENTS").append(node).append(" = new String[] {");
+        for (int i = 0; i < segments.size(); i++) {
+            if (i > 0) {
+                fields.append(", ");
+            }
+
+            appendLiteral(segments.get(i));
+        }
+
+        fields.append("};\n");
+        return node;
+    }
+
+    private void appendLiteral(String value) {
+        fields.append('"');
+        for (char character : value.toCharArray()) {
+            if (character == '"' || character == '\\') {
+                fields.append('\\').append(character);
+            } else if (character < ' ') {
+                fields.append(String.format("\\%03o", (int) character));
+            } else if (character > '~') {
+                fields.append(String.format("\\u%04x", (int) character));
+            } else {
+                fields.append(character);
+            }
+        }
+
+        fields.append('"');
+    }
+
+    private Method findReadMethod(Class<?> type, String property) {
+        Method readMethod = PropertyAccessors.getReadMethod(type, property);
+        if (!Modifier.isPublic(readMethod.getModifiers()) || !isPublic(readMethod.getDeclaringClass())) {
+            return null;
+        }
+
+        types.add(readMethod.getDeclaringClass());
+        return readMethod;
+    }
+
+    private ClassLoader findClassLoader(Class<?> type) {
+        for (ClassLoader candidate : Arrays.asList(type.getClassLoader(), GeneratedValidator.class.getClassLoader())) {
+            if (candidate != null && isVisible(candidate)) {
+                return candidate;
+            }
+        }
+
+        return null;
+    }
+
+    private boolean isVisible(ClassLoader classLoader) {
+        for (Class<?> type : types) {
+            try {
+                if (Class.forName(type.getName(), false, classLoader) != type) {
+                    return false;
+                }
+            } catch (ClassNotFoundException e) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private Map<String, byte[]> compile(JavaCompiler compiler, String className, String source) {
+        Map<String, ByteArrayOutputStream> outputs = new HashMap<String, ByteArrayOutputStream>();
+        StandardJavaFileManager standardFileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8);
+        JavaFileManager fileManager = new ForwardingJavaFileManager<StandardJavaFileManager>(standardFileManager) {
+            @Override
+            public JavaFileObject getJavaFileForOutput(Location location, String name, JavaFileObject.Kind kind, FileObject sibling) {
+                return new SimpleJavaFileObject(URI.create("mem:///" + name.replace('.', '/') + kind.extension), kind) {
+                    @Override
+                    public OutputStream openOutputStream() {
+                        ByteArrayOutputStream output = new ByteArrayOutputStream();
+                        outputs.put(name, output);
+                        return output;
+                    }
+                };
+            }
+        };
+
+        JavaFileObject sourceFile = new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + ".java"),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+
+        List<String> options = Arrays.asList("-classpath", buildClassPath(), "-proc:none", "-nowarn");
+        try {
+            Boolean compiled = compiler.getTask(new StringWriter(), fileManager, new DiagnosticCollector<JavaFileObject>(), options, null,
+                    Collections.singletonList(sourceFile)).call();
+            fileManager.close();
+            if (!Boolean.TRUE.equals(compiled) || !outputs.containsKey(className)) {
+                return null;
+            }
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+
+        Map<String, byte[]> classes = new HashMap<String, byte[]>();
+        outputs.forEach((name, output) -> classes.put(name, output.toByteArray()));
+        return classes;
+    }
+
+    private String buildClassPath() {
+        Set<String> classPath = new LinkedHashSet<String>();
+        for (Class<?> type : types) {
+            CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+            if (codeSource != null && codeSource.getLocation() != null) {
+                try {
+                    classPath.add(Paths.get(codeSource.getLocation().toURI()).toString());
+                } catch (Exception e) {
+                    // not a file location, the class path of the runtime has to do
+                }
+            }
+        }
+
+        classPath.addAll(Arrays.asList(System.getProperty("java.class.path", "").split(File.pathSeparator)));
+        return String.join(File.pathSeparator, classPath);
+    }
+
+    private static boolean isPublic(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getEnclosingClass()) {
+            if (!Modifier.isPublic(current.getModifiers())) {
+                return false;
+            }
+        }
+
+        return type.getCanonicalName() != null && !type.isPrimitive() && !type.isArray();
+    }
+
+    private static List<String> append(List<String> segments, String segment) {
+        String[] result = segments.toArray(new String[segments.size() + 1]);
+        result[segments.size()] = segment;
+        return Arrays.asList(result);
+    }
+
+    private static final class GeneratedClassLoader extends ClassLoader {
+        private GeneratedClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        private Class<?> define(String name, byte[] bytes) {
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package dk.emstar.common.validation;
+
+import java.time.ZonedDateTime;
+
+public class ZonedDateTimeValidationContext extends TemporalValidationContext<ZonedDateTimeValidationContext, ZonedDateTime> {
+
+    public ZonedDateTimeValidationContext(String context, String contextPath, String location, ZonedDateTime currentItemToBeChecked) {
+        super(context, contextPath, location, currentItemToBeChecked, TemporalNormalizer.ZONED_DATE_TIME);
+    }
+
+    public ZonedDateTimeValidationContext(String context, ValidationResult parent, ValidationPath location, ZonedDateTime currentItemToBeChecked) {
+        super(context, parent, location, currentItemToBeChecked, TemporalNormalizer.ZONED_DATE_TIME);
+    }
+}
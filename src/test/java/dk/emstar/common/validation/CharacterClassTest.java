@@ -0,0 +1,93 @@
+package dk.emstar.common.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.Test;
+
+public class CharacterClassTest {
+    private static final String[] INPUTS = { "", "1", "12", "123", "1234", "12345", "12-34", "12-3", "AB1234", "ab1234", "AB12345",
+            "DKK", "DK", "dkk", "DKKK", "0a1B2f", "0x1g", "a_b", "a.b", "a b", "æøå", "١٢٣", "12\n", "-", "]", "\\", ".", "/", ",",
+            "z.-", "a\\b" };
+
+    private static final String[] SIMPLE_REGEXES = { "\\d+", "\\d*", "\\d{4}", "^\\d{2,4}$", "\\d{2,}", "[0-9]+", "[A-Z]{3}",
+            "[A-Z]{2}\\d{4}", "[A-Za-z]{2}[0-9]+", "\\d{2}-\\d{2}", "[0-9a-fA-F]+", "0x[0-9a-f]?", "[a-z_]+", "[\\w]+", "\\w+",
+            "a\\.b", "[.]a?", "[-a]+", "[a-]+", "[\\]]", "\\\\", "a b", "[\\.-z]+", "[\\\\-b]+",
+            "[\\--/]+", "[+--]+", "[a-b-z]+", "[,-\\.]+" };
+
+    private static final String[] COMPLEX_REGEXES = { "", "^$", ".*", "\\d+\\d", "[^0-9]+", "(\\d)+", "\\d+?", "\\d++", "[a[b]]",
+            "[a&&b]", "\\p{Alpha}+", "\\s+", "\\D", "[]a]", "\\d{,2}", "\\d{3,2}", "a|b", "[æ]", "[.]?a?", "[\\d-z]", "[a-\\d]",
+            "[\\.-\\-]" };
+
+    private static final String[] BRACKET_ELEMENTS = { "a", "b", "z", "0", "9", ".", ",", "/", "-", "-", "^", "]", "\\.", "\\-",
+            "\\\\", "\\]", "\\/", "\\d", "\\w", "+" };
+
+    @Test
+    public void parse_SimpleRegex_MatchesLikeRegex() throws Exception {
+        for (String regex : SIMPLE_REGEXES) {
+            CharacterClass characterClass = CharacterClass.parse(regex);
+            assertThat(characterClass).as(regex).isNotNull();
+
+            Pattern pattern = Pattern.compile(regex);
+            for (String input : INPUTS) {
+                assertThat(characterClass.matches(input)).as(regex + " on " + input).isEqualTo(pattern.matcher(input).matches());
+            }
+        }
+    }
+
+    @Test
+    public void parse_RandomBracket_MatchesLikeRegexWhenParsed() throws Exception {
+        Random random = new Random(19);
+        for (int i = 0; i < 5000; i++) {
+            StringBuilder bracket = new StringBuilder("[");
+            int elements = 1 + random.nextInt(4);
+            for (int j = 0; j < elements; j++) {
+                bracket.append(BRACKET_ELEMENTS[random.nextInt(BRACKET_ELEMENTS.length)]);
+            }
+            String regex = bracket.append("]+").toString();
+
+            Pattern pattern;
+            try {
+                pattern = Pattern.compile(regex);
+            } catch (PatternSyntaxException e) {
+                assertThat(CharacterClass.parse(regex)).as(regex).isNull();
+                continue;
+            }
+
+            CharacterClass characterClass = CharacterClass.parse(regex);
+            if (characterClass == null) {
+                continue;
+            }
+
+            for (char c = ' '; c < 127; c++) {
+                String input = String.valueOf(c);
+                assertThat(characterClass.matches(input)).as(regex + " on " + input).isEqualTo(pattern.matcher(input).matches());
+            }
+        }
+    }
+
+    @Test
+    public void parse_ComplexRegex_IsNull() throws Exception {
+        for (String regex : COMPLEX_REGEXES) {
+            assertThat(CharacterClass.parse(regex)).as(regex).isNull();
+        }
+    }
+
+    @Test
+    public void of_PatternWithFlags_IsNull() throws Exception {
+        assertThat(CharacterClass.of(Pattern.compile("[a-z]+", Pattern.CASE_INSENSITIVE))).isNull();
+        assertThat(CharacterClass.of(Pattern.compile("[a-z]+"))).isNotNull();
+    }
+
+    @Test
+    public void consistsOf_FixedLength_MatchesOnlyThatLength() throws Exception {
+        assertThat(CharacterClass.consistsOf(CharacterClass.UPPER_CASE_LETTERS, "DKK", 3)).isTrue();
+        assertThat(CharacterClass.consistsOf(CharacterClass.UPPER_CASE_LETTERS, "DK", 3)).isFalse();
+        assertThat(CharacterClass.consistsOf(CharacterClass.UPPER_CASE_LETTERS, "DkK", 3)).isFalse();
+        assertThat(CharacterClass.consistsOf(CharacterClass.DIGITS, "", 0)).isTrue();
+        assertThat(CharacterClass.consistsOf(CharacterClass.DIGITS, "")).isFalse();
+    }
+}
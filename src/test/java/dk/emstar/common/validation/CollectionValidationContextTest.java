@@ -0,0 +1,324 @@
+package dk.emstar.common.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+import dk.emstar.common.validation.domain.Order;
+import dk.emstar.common.validation.domain.OrderLine;
+
+public class CollectionValidationContextTest {
+
+    @Test
+    public void validateEachItemInParallel_SeveralInvalidItems_RegisteredInIndexOrder() throws Exception {
+        List<OrderLine> orderLines = createOrderLines(5000, 17);
+
+        ValidationResult result = new CollectionValidationContext<OrderLine>("orderlines", "order", "order.orderlines", orderLines)
+            .evaluateEachItemInParallel("orderline",
+                $orderLine -> $orderLine
+                    .validateString("itemCode", OrderLine::getItemCode,
+                        $itemCode -> $itemCode
+                            .failWhenMissing()))
+            .result();
+
+        List<String> actual = result.stream().map(o -> o.getLocation()).collect(Collectors.toList());
+
+        assertThat(result.getFailureCount()).isEqualTo(295);
+        assertThat(actual).isEqualTo(expectedLocations(5000, 17));
+    }
+
+    @Test
+    public void validateEachItemInParallel_OwnExecutor_SameAsSequential() throws Exception {
+        List<OrderLine> orderLines = createOrderLines(100, 3);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        try {
+            ValidationResult parallel = new CollectionValidationContext<OrderLine>("orderlines", "order", "order.orderlines", orderLines)
+                .validateEachItemInParallel("orderline", this::validateOrderLine, 10, executor)
+                .result();
+            ValidationResult sequential = new CollectionValidationContext<OrderLine>("orderlines", "order", "order.orderlines", orderLines)
+                .validateEachItem("orderline", this::validateOrderLine)
+                .result();
+
+            assertThat(parallel.getAllDetails()).isEqualTo(sequential.getAllDetails());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void validateEachItemInParallel_FailFast_OnlyLowestIndexFailureRegistered() throws Exception {
+        Order order = new Order();
+        order.setOrderLine(createOrderLines(500, 37));
+        order.getOrderLine().get(0).setItemCode("item0");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            for (int i = 0; i < 20; i++) {
+                ValidationResult result = new DefaultValidationFactory(ValidationMode.FailFast).validate("order", order)
+                    .validateCollection("orderlines", Order::getOrderLine,
+                        $orderLines -> $orderLines
+                            .validateEachItemInParallel("orderline", this::validateOrderLine, 10, executor)
+                            .result())
+                    .result();
+
+                assertThat(result.isStopped()).isTrue();
+                assertThat(result.stream().map(o -> o.getLocation()).collect(Collectors.toList())).containsExactly("order.orderlines[37].itemCode");
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void validateEachItemInParallel_Null_RegisterWarningItemIsNotMarkedAsOptional() throws Exception {
+        ValidationResult result = new CollectionValidationContext<OrderLine>("orderlines", "order", "order.orderlines", null)
+            .validateEachItemInParallel("orderline", this::validateOrderLine)
+            .result();
+
+        assertThat(result.hasWarning()).isTrue();
+        assertThat(result.stream().findFirst().get().getValidationCode()).isEqualTo(ValidationResultProvider.NOT_MARKED_AS_OPTIONAL);
+    }
+
+    @Test
+    public void failWhenHasDuplicate_DuplicateItemCodes_RegisteredAtDuplicateIndex() throws Exception {
+        List<OrderLine> orderLines = createOrderLines(10, 100);
+        orderLines.get(4).setItemCode("item1");
+        orderLines.get(9).setItemCode("item1");
+
+        ValidationResult result = new CollectionValidationContext<OrderLine>("orderlines", "order", "order.orderlines", orderLines)
+            .failWhenHasDuplicate(OrderLine::getItemCode)
+            .result();
+
+        List<String> actual = result.stream().map(o -> o.getLocation()).collect(Collectors.toList());
+
+        assertThat(actual).containsExactly("order.orderlines[4]", "order.orderlines[9]");
+        assertThat(result.stream().allMatch(o -> ValidationResultProvider.DUPLICATE.equals(o.getValidationCode()))).isTrue();
+    }
+
+    @Test
+    public void failWhenHasDuplicate_NoDuplicates_NoFailure() throws Exception {
+        List<String> items = Lists.newArrayList();
+        for (int i = 0; i < 10000; i++) {
+            items.add("item" + i);
+        }
+
+        ValidationResult result = new CollectionValidationContext<String>("items", "order", "order.items", items)
+            .failWhenHasDuplicate()
+            .failWhenHasDuplicateUsingBloomFilter(o -> o)
+            .failWhenHasDuplicateInt(o -> o.hashCode())
+            .failWhenHasDuplicateLong(o -> o.length() * 1000000000000L + o.hashCode())
+            .result();
+
+        assertThat(result.hasFailure()).isFalse();
+    }
+
+    @Test
+    public void failWhenHasDuplicateInt_DuplicateQuantitiesIncludingZero_SameAsObjectKeys() throws Exception {
+        List<OrderLine> orderLines = createOrderLines(1000, 1000);
+        for (int i = 0; i < orderLines.size(); i++) {
+            orderLines.get(i).setQuantity(i % 300);
+        }
+
+        ValidationResult primitive = new CollectionValidationContext<OrderLine>("orderlines", "order", "order.orderlines", orderLines)
+            .failWhenHasDuplicateInt(OrderLine::getQuantity)
+            .result();
+        ValidationResult boxed = new CollectionValidationContext<OrderLine>("orderlines", "order", "order.orderlines", orderLines)
+            .failWhenHasDuplicate($orderLine -> $orderLine.getQuantity())
+            .result();
+        ValidationResult bloomFilter = new CollectionValidationContext<OrderLine>("orderlines", "order", "order.orderlines", orderLines)
+            .failWhenHasDuplicateUsingBloomFilter($orderLine -> $orderLine.getQuantity())
+            .result();
+        ValidationResult asLong = new CollectionValidationContext<OrderLine>("orderlines", "order", "order.orderlines", orderLines)
+            .failWhenHasDuplicateLong(OrderLine::getQuantity)
+            .result();
+
+        assertThat(primitive.getFailureCount()).isEqualTo(700);
+        assertThat(primitive.getAllDetails()).isEqualTo(boxed.getAllDetails());
+        assertThat(bloomFilter.getAllDetails()).isEqualTo(boxed.getAllDetails());
+        assertThat(asLong.getAllDetails()).isEqualTo(boxed.getAllDetails());
+    }
+
+    @Test
+    public void failWhenHasDuplicate_NullKeys_NullDuplicateRegistered() throws Exception {
+        ValidationResult result = new CollectionValidationContext<String>("items", "order", "order.items", Lists.newArrayList("a", null, "b", null))
+            .failWhenHasDuplicate()
+            .result();
+
+        assertThat(result.getFailureCount()).isEqualTo(1);
+        assertThat(result.stream().findFirst().get().getLocation()).isEqualTo("order.items[3]");
+    }
+
+    @Test
+    public void validateEachItem_WithAggregate_ItemAndAggregateFailuresRegistered() throws Exception {
+        List<OrderLine> orderLines = createOrderLines(10, 5);
+        for (int i = 0; i < orderLines.size(); i++) {
+            orderLines.get(i).setQuantity(i == 7 ? 1 : i * 10);
+        }
+
+        CollectionAggregate<OrderLine> aggregate = CollectionAggregate.<OrderLine>builder()
+            .failWhenSumGreaterThan(OrderLine::getQuantity, 300)
+            .failWhenCountGreaterThan($orderLine -> $orderLine.getQuantity() > 50, 2)
+            .failWhenMinimumLessThan(OrderLine::getQuantity, 0)
+            .failWhenMaximumGreaterThan(OrderLine::getQuantity, 90)
+            .failWhenNotSorted(Comparator.comparingInt(OrderLine::getQuantity))
+            .build();
+
+        ValidationResult result = new CollectionValidationContext<OrderLine>("orderlines", "order", "order.orderlines", orderLines)
+            .validateEachItem("orderline", this::validateOrderLine, aggregate)
+            .result();
+
+        List<String> actual = result.stream().map(o -> o.getValidationCode() + "@" + o.getLocation()).collect(Collectors.toList());
+
+        assertThat(actual).containsExactly(
+                ValidationResultProvider.MISSING + "@order.orderlines[0].itemCode",
+                ValidationResultProvider.MISSING + "@order.orderlines[5].itemCode",
+                ValidationResultProvider.SUM_GREATER_THAN + "@order.orderlines",
+                ValidationResultProvider.COUNT_GREATER_THAN + "@order.orderlines",
+                ValidationResultProvider.NOT_SORTED + "@order.orderlines[7]");
+    }
+
+    @Test
+    public void validateAggregate_WithinLimits_NoFailure() throws Exception {
+        List<OrderLine> orderLines = createOrderLines(10, 100);
+        for (int i = 0; i < orderLines.size(); i++) {
+            orderLines.get(i).setQuantity(i);
+        }
+
+        ValidationResult result = new CollectionValidationContext<OrderLine>("orderlines", "order", "order.orderlines", orderLines)
+            .validateAggregate(CollectionAggregate.<OrderLine>builder()
+                .failWhenSumGreaterThan(OrderLine::getQuantity, 45)
+                .failWhenMinimumLessThan(OrderLine::getQuantity, 0)
+                .failWhenMaximumGreaterThan(OrderLine::getQuantity, 9)
+                .failWhenNotSorted(Comparator.comparingInt(OrderLine::getQuantity))
+                .build())
+            .result();
+
+        assertThat(result.hasFailure()).isFalse();
+    }
+
+    @Test
+    public void validateAggregate_SumOfTenths_OnlyDoubleSumGreaterThan() throws Exception {
+        List<Double> amounts = Lists.newArrayList(0.1, 0.2);
+
+        ValidationResult doubleSum = new CollectionValidationContext<Double>("amounts", "order", "order.amounts", amounts)
+            .validateAggregate(CollectionAggregate.<Double>builder()
+                .failWhenSumGreaterThan(Double::doubleValue, 0.3)
+                .build())
+            .result();
+        ValidationResult decimalSum = new CollectionValidationContext<Double>("amounts", "order", "order.amounts", amounts)
+            .validateAggregate(CollectionAggregate.<Double>builder()
+                .failWhenDecimalSumGreaterThan(BigDecimal::valueOf, new BigDecimal("0.3"))
+                .build())
+            .result();
+
+        assertThat(doubleSum.hasValidationCode(ValidationResultProvider.SUM_GREATER_THAN)).isTrue();
+        assertThat(decimalSum.hasFailure()).isFalse();
+    }
+
+    @Test
+    public void validateAggregate_LongSumGreaterThan_SumGreaterThanRegistered() throws Exception {
+        List<OrderLine> orderLines = createOrderLines(3, 100);
+        for (OrderLine orderLine : orderLines) {
+            orderLine.setQuantity(Integer.MAX_VALUE);
+        }
+
+        ValidationResult result = new CollectionValidationContext<OrderLine>("orderlines", "order", "order.orderlines", orderLines)
+            .validateAggregate(CollectionAggregate.<OrderLine>builder()
+                .failWhenLongSumGreaterThan(OrderLine::getQuantity, 3L * Integer.MAX_VALUE - 1)
+                .build())
+            .result();
+
+        assertThat(result.hasValidationCode(ValidationResultProvider.SUM_GREATER_THAN)).isTrue();
+    }
+
+    @Test
+    public void validateAggregate_LongSumOverflows_SumGreaterThanRegistered() throws Exception {
+        List<OrderLine> orderLines = createOrderLines(3, 100);
+
+        ValidationResult result = new CollectionValidationContext<OrderLine>("orderlines", "order", "order.orderlines", orderLines)
+            .validateAggregate(CollectionAggregate.<OrderLine>builder()
+                .failWhenLongSumGreaterThan(orderLine -> Long.MAX_VALUE / 2 + 1, Long.MAX_VALUE)
+                .build())
+            .result();
+
+        assertThat(result.hasValidationCode(ValidationResultProvider.SUM_GREATER_THAN)).isTrue();
+    }
+
+    @Test
+    public void validateAggregate_LongSumOverflowsAndComesBack_NothingRegistered() throws Exception {
+        List<Long> values = Lists.newArrayList(Long.MAX_VALUE, Long.MAX_VALUE, -Long.MAX_VALUE);
+
+        ValidationResult result = new CollectionValidationContext<Long>("values", "order", "order.values", values)
+            .validateAggregate(CollectionAggregate.<Long>builder()
+                .failWhenLongSumGreaterThan(Long::longValue, Long.MAX_VALUE)
+                .build())
+            .result();
+
+        assertThat(result.hasValidationCode(ValidationResultProvider.SUM_GREATER_THAN)).isFalse();
+    }
+
+    @Test
+    public void validateAggregate_NaNElement_MinimumAndMaximumRegistered() throws Exception {
+        List<Double> amounts = Lists.newArrayList(1.0, Double.NaN, 2.0);
+
+        ValidationResult result = new CollectionValidationContext<Double>("amounts", "order", "order.amounts", amounts)
+            .validateAggregate(CollectionAggregate.<Double>builder()
+                .failWhenMinimumLessThan(Double::doubleValue, 0)
+                .failWhenMaximumGreaterThan(Double::doubleValue, 10)
+                .build())
+            .result();
+
+        assertThat(result.hasValidationCode(ValidationResultProvider.MINIMUM_LESS_THAN)).isTrue();
+        assertThat(result.hasValidationCode(ValidationResultProvider.MAXIMUM_GREATER_THAN)).isTrue();
+    }
+
+    @Test
+    public void validateAggregate_Null_RegisterWarningItemIsNotMarkedAsOptional() throws Exception {
+        ValidationResult result = new CollectionValidationContext<OrderLine>("orderlines", "order", "order.orderlines", null)
+            .validateAggregate(CollectionAggregate.<OrderLine>builder()
+                .failWhenCountGreaterThan($orderLine -> true, 0)
+                .build())
+            .result();
+
+        assertThat(result.hasFailure()).isFalse();
+        assertThat(result.stream().findFirst().get().getValidationCode()).isEqualTo(ValidationResultProvider.NOT_MARKED_AS_OPTIONAL);
+    }
+
+    private ValidationResult validateOrderLine(ObjectValidationContext<OrderLine> orderLine) {
+        return orderLine
+            .validateString("itemCode", OrderLine::getItemCode,
+                $itemCode -> $itemCode
+                    .failWhenMissing())
+            .result();
+    }
+
+    private List<OrderLine> createOrderLines(int count, int everyInvalid) {
+        List<OrderLine> orderLines = Lists.newArrayList();
+        for (int i = 0; i < count; i++) {
+            OrderLine orderLine = new OrderLine();
+            orderLine.setItemCode(i % everyInvalid == 0 ? null : "item" + i);
+            orderLines.add(orderLine);
+        }
+
+        return orderLines;
+    }
+
+    private List<String> expectedLocations(int count, int everyInvalid) {
+        List<String> locations = Lists.newArrayList();
+        for (int i = 0; i < count; i += everyInvalid) {
+            locations.add("order.orderlines[" + i + "].itemCode");
+        }
+
+        return locations;
+    }
+}
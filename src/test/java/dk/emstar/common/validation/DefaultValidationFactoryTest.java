@@ -0,0 +1,146 @@
+package dk.emstar.common.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+import dk.emstar.common.validation.domain.Person;
+
+public class DefaultValidationFactoryTest {
+
+    private static final ValidationPlan<Person> PERSON_PLAN = ValidationPlan.<Person>builder("person")
+            .failWhenMissing()
+            .validateString("firstname", Person::getFirstname, 5, Required.Mandatory)
+            .build();
+
+    private final ValidationFactory validationFactory = new DefaultValidationFactory();
+
+    @Test
+    public void validateAll_StreamOfPersons_OneResultPerPersonInOrder() throws Exception {
+        List<ValidatedItem<Person>> actual = validationFactory.validateAll(PERSON_PLAN, Stream.of(createPerson("abc"), null, createPerson("too long")))
+            .collect(Collectors.toList());
+
+        assertThat(actual).hasSize(3);
+        assertThat(actual.get(0).hasFailure()).isFalse();
+        assertThat(actual.get(1).getItem()).isNull();
+        assertThat(actual.get(1).getValidationResult().findValidationCode(ValidationResultProvider.MISSING)).isNotNull();
+        assertThat(actual.get(2).getValidationResult().findValidationCode(ValidationResultProvider.TOO_LONG)).isNotNull();
+    }
+
+    @Test
+    public void findFailures_ParallelStream_OnlyFailingPersons() throws Exception {
+        Stream<Person> persons = IntStream.range(0, 1000).mapToObj(o -> createPerson(o % 10 == 0 ? "too long" : "abc")).parallel();
+
+        long actual = validationFactory.findFailures(PERSON_PLAN, persons).count();
+
+        assertThat(actual).isEqualTo(100);
+    }
+
+    @Test
+    public void validateAll_Iterable_ValidatedLazily() throws Exception {
+        AtomicInteger validated = new AtomicInteger();
+        List<Person> persons = Lists.newArrayList(createPerson("abc"), createPerson("too long"), createPerson("def"));
+
+        ValidatedItem<Person> actual = validationFactory.validateAll(PERSON_PLAN, persons)
+            .peek(o -> validated.incrementAndGet())
+            .filter(ValidatedItem::hasFailure)
+            .findFirst()
+            .get();
+
+        assertThat(actual.getItem().getFirstname()).isEqualTo("too long");
+        assertThat(validated.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void validateAll_FailFastFactory_EachItemStoppedOnItsOwn() throws Exception {
+        ValidationFactory failFastFactory = new DefaultValidationFactory(ValidationMode.FailFast);
+
+        List<ValidatedItem<Person>> actual = failFastFactory.validateAll("person", Stream.of(null, createPerson("abc")),
+                $person -> $person
+                    .failWhenMissing()
+                    .validateString("firstname", Person::getFirstname, 5, Required.Mandatory)
+                    .result())
+            .collect(Collectors.toList());
+
+        assertThat(actual.get(0).getValidationResult().isStopped()).isTrue();
+        assertThat(actual.get(0).getValidationResult().stream().count()).isEqualTo(1);
+        assertThat(actual.get(1).getValidationResult().isStopped()).isFalse();
+    }
+
+    @Test
+    public void validateAll_CountingSinkWithoutRetainedRegistrations_CountsAndFirstFailures() throws Exception {
+        CountingValidationSink sink = new CountingValidationSink(2);
+        ValidationFactory streamingFactory = new DefaultValidationFactory(ValidationOptions.DEFAULT
+                .withSink(sink)
+                .withRetainRegistrations(false));
+        Stream<Person> persons = IntStream.range(0, 100).mapToObj(o -> createPerson(o % 10 == 0 ? "too long" : "abc"));
+
+        List<ValidatedItem<Person>> actual = streamingFactory.findFailures(PERSON_PLAN, persons).collect(Collectors.toList());
+
+        assertThat(actual).hasSize(10);
+        assertThat(actual.get(0).getValidationResult().getFailureCount()).isEqualTo(1);
+        assertThat(actual.get(0).getValidationResult().stream().count()).isEqualTo(0);
+        assertThat(sink.getFailureCount()).isEqualTo(10);
+        assertThat(sink.getFirstFailures()).hasSize(2);
+        assertThat(sink.getFirstFailures().get(0).getValidationCode()).isEqualTo(ValidationResultProvider.TOO_LONG);
+    }
+
+    @Test
+    public void validate_SinkAndRetainedRegistrations_RegistrationsInBoth() throws Exception {
+        List<ValidationRegistration> sink = Lists.newArrayList();
+        ValidationFactory sinkFactory = new DefaultValidationFactory(ValidationOptions.DEFAULT.withSink(sink::add));
+
+        ValidationResult actual = sinkFactory.validate(PERSON_PLAN, createPerson(null));
+
+        assertThat(sink).hasSize(2);
+        assertThat(actual.stream().collect(Collectors.toList())).isEqualTo(sink);
+    }
+
+    @Test
+    public void findFailures_ValidatorOnFactoryWithOnlyValidate_OnlyFailingPersons() throws Exception {
+        ValidationFactory minimalFactory = new ValidationFactory() {
+            @Override
+            public <T> ObjectValidationContext<T> validate(String context, T itemToBeValidated) {
+                return validationFactory.validate(context, itemToBeValidated);
+            }
+        };
+        Stream<Person> persons = Stream.of(createPerson("abc"), createPerson("too long"), createPerson(null));
+
+        List<ValidatedItem<Person>> actual = minimalFactory.findFailures("person", persons,
+            $person -> $person
+                .validateString("firstname", Person::getFirstname, 5, Required.Mandatory)
+                .result())
+            .collect(Collectors.toList());
+
+        assertThat(actual).hasSize(2);
+        assertThat(actual.get(0).getItem().getFirstname()).isEqualTo("too long");
+    }
+
+    @Test
+    public void validate_PlanOnFactoryWithOnlyValidateOfContext_SameAsDefault() throws Exception {
+        ValidationFactory minimalFactory = new ValidationFactory() {
+            @Override
+            public <T> ObjectValidationContext<T> validate(String context, T itemToBeValidated) {
+                return validationFactory.validate(context, itemToBeValidated);
+            }
+        };
+
+        ValidationResult actual = minimalFactory.validate(PERSON_PLAN, createPerson("too long"));
+
+        assertThat(actual.getAllDetails()).isEqualTo(validationFactory.validate(PERSON_PLAN, createPerson("too long")).getAllDetails());
+    }
+
+    private Person createPerson(String firstname) {
+        Person person = new Person();
+        person.setFirstname(firstname);
+        return person;
+    }
+}
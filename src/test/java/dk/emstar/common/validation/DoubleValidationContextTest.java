@@ -0,0 +1,70 @@
+package dk.emstar.common.validation;
+
+import static org.assertj.core.api.StrictAssertions.assertThat;
+
+import org.junit.Test;
+
+public class DoubleValidationContextTest {
+
+    @Test
+    public void failWhenNotFinite_NaN_NotFiniteRegistered() throws Exception {
+        ValidationResult result = new DoubleValidationContext("amount", "", "amount", Double.NaN)
+            .failWhenNotFinite()
+            .result();
+
+        assertThat(result.getFailureCount()).isEqualTo(1);
+        assertThat(result.stream().findFirst().get().getValidationCode()).isEqualTo(ValidationResultProvider.NOT_FINITE);
+    }
+
+    @Test
+    public void failWhenLessThanAndGreaterThanAndBetween_NaN_NotFiniteRegisteredForBetween() throws Exception {
+        ValidationResult result = new DoubleValidationContext("amount", "", "amount", Double.NaN)
+            .failWhenNegative()
+            .failWhenGreaterThan(100)
+            .failWhenBetween(0, 100)
+            .result();
+
+        assertThat(result.hasValidationCode(ValidationResultProvider.LESS_THAN)).isTrue();
+        assertThat(result.hasValidationCode(ValidationResultProvider.GREATER_THAN)).isTrue();
+        assertThat(result.hasValidationCode(ValidationResultProvider.NOT_FINITE)).isTrue();
+        assertThat(result.hasValidationCode(ValidationResultProvider.BETWEEN)).isFalse();
+    }
+
+    @Test
+    public void failWhenBetween_NaN_NotFiniteRegistered() throws Exception {
+        ValidationResult result = new DoubleValidationContext("amount", "", "amount", Double.NaN)
+            .failWhenBetween(0, 100)
+            .result();
+
+        assertThat(result.getFailureCount()).isEqualTo(1);
+        assertThat(result.stream().findFirst().get().getValidationCode()).isEqualTo(ValidationResultProvider.NOT_FINITE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void failWhenLessThan_NaNMinimum_Fails() throws Exception {
+        new DoubleValidationContext("amount", "", "amount", 1).failWhenLessThan(Double.NaN);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void failWhenNotBetween_NaNEnd_Fails() throws Exception {
+        new DoubleValidationContext("amount", "", "amount", 1).failWhenNotBetween(0, Double.NaN);
+    }
+
+    @Test
+    public void failWhenNotBetween_NaN_NotBetweenRegistered() throws Exception {
+        ValidationResult result = new DoubleValidationContext("amount", "", "amount", Double.NaN)
+            .failWhenNotBetween(0, 100)
+            .result();
+
+        assertThat(result.hasValidationCode(ValidationResultProvider.NOT_BETWEEN)).isTrue();
+    }
+
+    @Test
+    public void failWhenGreaterThan_ValueAbove_GreaterThanRegistered() throws Exception {
+        ValidationResult result = new DoubleValidationContext("amount", "", "amount", 100.01)
+            .failWhenGreaterThan(100)
+            .result();
+
+        assertThat(result.hasValidationCode(ValidationResultProvider.GREATER_THAN)).isTrue();
+    }
+}
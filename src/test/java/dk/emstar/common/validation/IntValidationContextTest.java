@@ -0,0 +1,64 @@
+package dk.emstar.common.validation;
+
+import static org.assertj.core.api.StrictAssertions.assertThat;
+
+import org.junit.Test;
+
+public class IntValidationContextTest {
+
+    @Test
+    public void failWhenLessThan_ValueBelowMinimum_LessThanRegistered() throws Exception {
+        ValidationResult result = new IntValidationContext("quantity", "", "quantity", 0)
+            .failWhenLessThan(1)
+            .result();
+
+        assertThat(result.hasFailure()).isTrue();
+        ValidationRegistration actual = result.stream().findFirst().get();
+        assertThat(actual.getLocation()).isEqualTo("quantity");
+        assertThat(actual.getValidationCode()).isEqualTo(ValidationResultProvider.LESS_THAN);
+    }
+
+    @Test
+    public void failWhenGreaterThan_ValueAtMaximum_NoFailure() throws Exception {
+        ValidationResult result = new IntValidationContext("quantity", "", "quantity", 10)
+            .failWhenGreaterThan(10)
+            .failWhenNegative()
+            .result();
+
+        assertThat(result.hasFailure()).isFalse();
+    }
+
+    @Test
+    public void failWhenNotBetween_ValueOutside_NotBetweenRegistered() throws Exception {
+        ValidationResult result = new IntValidationContext("quantity", "", "quantity", 11)
+            .failWhenNotBetween(1, 10)
+            .failWhenBetween(20, 30)
+            .result();
+
+        assertThat(result.getFailureCount()).isEqualTo(1);
+        assertThat(result.stream().findFirst().get().getValidationCode()).isEqualTo(ValidationResultProvider.NOT_BETWEEN);
+    }
+
+    @Test
+    public void failWhenBetween_ValueAtBoundary_BetweenRegistered() throws Exception {
+        ValidationResult result = new IntValidationContext("quantity", "", "quantity", 10)
+            .failWhenBetween(1, 10)
+            .result();
+
+        assertThat(result.stream().findFirst().get().getValidationCode()).isEqualTo(ValidationResultProvider.BETWEEN);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void failWhenBetween_BeginAfterEnd_ThrowsIllegalArgumentException() throws Exception {
+        new IntValidationContext("quantity", "", "quantity", 10).failWhenBetween(10, 1);
+    }
+
+    @Test
+    public void failWhen_PredicateTrue_CodeRegistered() throws Exception {
+        ValidationResult result = new IntValidationContext("quantity", "", "quantity", 3)
+            .failWhen($quantity -> $quantity % 2 != 0, "ODD", "odd")
+            .result();
+
+        assertThat(result.hasValidationCode("ODD")).isTrue();
+    }
+}
@@ -4,10 +4,15 @@ import static org.assertj.core.api.StrictAssertions.assertThat;
 
 import java.time.LocalDateTime;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 
 public class LocalDateTimeValidationContextTest {
 
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
     @Test
     public void failWhenMissing_IsNull_MissingRegistered() throws Exception {
         LocalDateTime localDateTime = null;
@@ -268,4 +273,11 @@ public class LocalDateTimeValidationContextTest {
         assertThat(result.hasFailure()).isFalse();
     }
 
+    @Test
+    public void failWhenAfter_NoLimit_LimitIsMissing() throws Exception {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("limit is missing");
+
+        new LocalDateTimeValidationContext("myVar", "", "myVar", LocalDateTime.of(2014, 11, 8, 3, 46)).failWhenAfter(null);
+    }
 }
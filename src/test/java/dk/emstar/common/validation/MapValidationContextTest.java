@@ -0,0 +1,139 @@
+package dk.emstar.common.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+
+public class MapValidationContextTest {
+
+    @Test
+    public void failWhenMissingKeys_KeyMissing_MissingKeyRegistered() throws Exception {
+        Map<String, String> attributes = ImmutableMap.of("color", "red", "size", "L");
+
+        ValidationResult result = new MapValidationContext<String, String>("attributes", "item", "item.attributes", attributes)
+            .failWhenMissingKeys(Lists.newArrayList("color", "weight"))
+            .failWhenHasKey("price")
+            .result();
+
+        assertThat(result.getFailureCount()).isEqualTo(1);
+        ValidationRegistration actual = result.stream().findFirst().get();
+        assertThat(actual.getValidationCode()).isEqualTo(ValidationResultProvider.MISSING_KEY);
+        assertThat(actual.getLocation()).isEqualTo("item.attributes");
+    }
+
+    @Test
+    public void failWhenHasKeys_ForbiddenKeyPresent_ForbiddenKeyRegistered() throws Exception {
+        Map<String, String> attributes = ImmutableMap.of("color", "red", "price", "10");
+
+        ValidationResult result = new MapValidationContext<String, String>("attributes", "item", "item.attributes", attributes)
+            .failWhenHasKeys(Lists.newArrayList("price", "cost"))
+            .failWhenMissingKey("color")
+            .result();
+
+        assertThat(result.getFailureCount()).isEqualTo(1);
+        assertThat(result.stream().findFirst().get().getValidationCode()).isEqualTo(ValidationResultProvider.FORBIDDEN_KEY);
+    }
+
+    @Test
+    public void evaluateEachValue_InvalidValue_LocationHasKey() throws Exception {
+        Map<String, String> attributes = ImmutableMap.of("color", "red", "size", "XXXL");
+
+        ValidationResult result = new MapValidationContext<String, String>("attributes", "item", "item.attributes", attributes)
+            .evaluateEachKey("attribute",
+                $key -> $key
+                    .validateString("name", $name -> $name,
+                        $name -> $name
+                            .failWhenLongerThan(5)))
+            .evaluateEachValue("attribute",
+                $value -> $value
+                    .validateString("value", $text -> $text,
+                        $text -> $text
+                            .failWhenLongerThan(3)))
+            .result();
+
+        assertThat(result.getFailureCount()).isEqualTo(1);
+        assertThat(result.stream().findFirst().get().getLocation()).isEqualTo("item.attributes[size].value");
+    }
+
+    @Test
+    public void validateEachValueInParallel_ManyEntries_SameAsSequential() throws Exception {
+        Map<String, String> attributes = new LinkedHashMap<String, String>();
+        for (int i = 0; i < 500; i++) {
+            attributes.put("key" + i, i % 7 == 0 ? null : "value" + i);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        try {
+            ValidationResult parallel = new MapValidationContext<String, String>("attributes", "item", "item.attributes", attributes)
+                .validateEachValueInParallel("attribute", this::validateValue, 10, executor)
+                .result();
+            ValidationResult sequential = new MapValidationContext<String, String>("attributes", "item", "item.attributes", attributes)
+                .validateEachValue("attribute", this::validateValue)
+                .result();
+
+            List<String> actual = parallel.stream().map(o -> o.getLocation()).collect(Collectors.toList());
+            assertThat(parallel.getAllDetails()).isEqualTo(sequential.getAllDetails());
+            assertThat(parallel.getFailureCount()).isEqualTo(72);
+            assertThat(actual.get(1)).isEqualTo("item.attributes[key7]");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void validateEachKeyInParallel_ManyEntries_SameAsSequential() throws Exception {
+        Map<String, String> attributes = new LinkedHashMap<String, String>();
+        for (int i = 0; i < 500; i++) {
+            attributes.put(i % 9 == 0 ? "invalid key" + i : "key" + i, "value" + i);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        try {
+            ValidationResult parallel = new MapValidationContext<String, String>("attributes", "item", "item.attributes", attributes)
+                .validateEachKeyInParallel("attribute", this::validateKey, 10, executor)
+                .result();
+            ValidationResult sequential = new MapValidationContext<String, String>("attributes", "item", "item.attributes", attributes)
+                .validateEachKey("attribute", this::validateKey)
+                .result();
+
+            List<String> actual = parallel.stream().map(o -> o.getLocation()).collect(Collectors.toList());
+            assertThat(parallel.getAllDetails()).isEqualTo(sequential.getAllDetails());
+            assertThat(parallel.getFailureCount()).isEqualTo(56);
+            assertThat(actual.get(1)).isEqualTo("item.attributes[invalid key9]");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void failWhenMissingKey_Null_RegisterWarningItemIsNotMarkedAsOptional() throws Exception {
+        ValidationResult result = new MapValidationContext<String, String>("attributes", "item", "item.attributes", null)
+            .failWhenMissingKey("color")
+            .result();
+
+        assertThat(result.hasWarning()).isTrue();
+        assertThat(result.stream().findFirst().get().getValidationCode()).isEqualTo(ValidationResultProvider.NOT_MARKED_AS_OPTIONAL);
+    }
+
+    private ValidationResult validateValue(ObjectValidationContext<String> value) {
+        return value
+            .failWhenMissing()
+            .result();
+    }
+
+    private ValidationResult validateKey(ObjectValidationContext<String> key) {
+        return key
+            .failWhen(o -> o.contains(" "), "X-1", "contains space")
+            .result();
+    }
+}
@@ -2,10 +2,13 @@ package dk.emstar.common.validation;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Test;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 
 import dk.emstar.common.validation.domain.Address;
@@ -69,6 +72,40 @@ public class ObjectValidationContextTest {
         assertThat(actual.getValidationCode()).isEqualTo(ValidationResultProvider.NOT_MARKED_AS_OPTIONAL);
     }
 
+    @Test
+    public void validate_NoOrderCheckedTwice_RegisterWarningOnce() throws Exception {
+        ValidationResult result = new ObjectValidationContext<Order>("order", null)
+            .evaluate("customer", Order::getCustomer, customer -> customer)
+            .evaluate("shippingAddress", Order::getShippingAddress, shippingAddress -> shippingAddress)
+            .result();
+
+        assertThat(result.getWarningCount()).isEqualTo(1);
+        assertThat(result.getValidationCodeCount(ValidationResultProvider.NOT_MARKED_AS_OPTIONAL)).isEqualTo(1);
+    }
+
+    @Test
+    public void validate_NoOrderValidatedTwice_WarningIsShared() throws Exception {
+        ValidationRegistration first = new ObjectValidationContext<Order>("order", null)
+            .evaluate("customer", Order::getCustomer, customer -> customer)
+            .result().stream().findFirst().get();
+        ValidationRegistration second = new ObjectValidationContext<Order>("order", null)
+            .evaluate("customer", Order::getCustomer, customer -> customer)
+            .result().stream().findFirst().get();
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void validate_NotMarkedAsOptionalWarningsDisabled_NoWarning() throws Exception {
+        ValidationResult result = new ObjectValidationContext<Order>("order", null,
+                ValidationOptions.DEFAULT.withNotMarkedAsOptionalWarnings(false))
+            .evaluate("customer", Order::getCustomer, customer -> customer)
+            .result();
+
+        assertThat(result.hasWarning()).isFalse();
+        assertThat(result.stream().count()).isEqualTo(0);
+    }
+
     @Test
     public void validate_OrderNoCustomer_RegisterAsMissingCustomer() throws Exception {
         Order order = new Order();
@@ -507,4 +544,114 @@ public class ObjectValidationContextTest {
         assertThat(actual.hasFailure()).isFalse();
 
     }
+
+    @Test
+    public void validate_FailFastWithSeveralFailures_OnlyFirstFailureRegistered() throws Exception {
+        Order order = new Order();
+        order.setCustomer(new Person());
+        List<OrderLine> orderLines = Lists.newArrayList(new OrderLine(), new OrderLine());
+        order.setOrderLine(orderLines);
+
+        List<String> checkedItemCodes = Lists.newArrayList();
+        ValidationResult result = new DefaultValidationFactory(ValidationMode.FailFast).validate("order", order)
+            .failWhenMissing()
+            .evaluateCollection("orderlines", Order::getOrderLine,
+                $orderLines -> $orderLines
+                    .evaluateEachItem("orderline",
+                        $orderLine -> $orderLine
+                            .validateString("itemCode", o -> {
+                                checkedItemCodes.add(o.getItemCode());
+                                return o.getItemCode();
+                            },
+                                $itemCode -> $itemCode
+                                    .failWhenMissing())))
+            .evaluate("customer", Order::getCustomer,
+                $customer -> $customer
+                    .validateString("firstname", Person::getFirstname, 5, Required.Mandatory))
+            .result();
+
+        assertThat(result.isStopped()).isTrue();
+        assertThat(result.getFailureCount()).isEqualTo(1);
+        assertThat(checkedItemCodes).hasSize(1);
+        ValidationRegistration actual = result.stream().findFirst().get();
+
+        assertThat(actual.getLocation()).isEqualTo("order.orderlines[0].itemCode");
+        assertThat(actual.getValidationCode()).isEqualTo(ValidationResultProvider.MISSING);
+    }
+
+    @Test
+    public void validate_CompleteWithSeveralFailures_AllFailuresRegistered() throws Exception {
+        Order order = new Order();
+        order.setCustomer(new Person());
+        order.setOrderLine(Lists.newArrayList(new OrderLine(), new OrderLine()));
+
+        ValidationResult result = new DefaultValidationFactory().validate("order", order)
+            .evaluateCollection("orderlines", Order::getOrderLine,
+                $orderLines -> $orderLines
+                    .evaluateEachItem("orderline",
+                        $orderLine -> $orderLine
+                            .validateString("itemCode", OrderLine::getItemCode,
+                                $itemCode -> $itemCode
+                                    .failWhenMissing())))
+            .evaluate("customer", Order::getCustomer,
+                $customer -> $customer
+                    .validateString("firstname", Person::getFirstname, 5, Required.Mandatory))
+            .result();
+
+        assertThat(result.isStopped()).isFalse();
+        assertThat(result.getFailureCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void validateLocalDateTime_BeforeLimit_RegisterAsBefore() throws Exception {
+        LocalDateTime limit = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+        ValidationResult result = new ObjectValidationContext<LocalDateTime>("order", limit.minusDays(1))
+            .validateLocalDateTime("created", $order -> $order,
+                $created -> $created
+                    .failWhenBefore(limit))
+            .result();
+
+        ValidationRegistration actual = result.stream().findFirst().get();
+        assertThat(actual.getValidationCode()).isEqualTo(ValidationResultProvider.BEFORE_TEMPORAL);
+        assertThat(actual.getLocation()).isEqualTo("order.created");
+    }
+
+    @Test
+    public void validateInt_QuantityNotPositive_RegisteredAtQuantity() throws Exception {
+        OrderLine orderLine = new OrderLine();
+        orderLine.setQuantity(0);
+
+        ValidationResult result = new ObjectValidationContext<OrderLine>("orderLine", orderLine)
+            .validateInt("quantity", OrderLine::getQuantity,
+                $quantity -> $quantity
+                    .failWhenLessThan(1))
+            .validateLong("quantityAsLong", $orderLine -> $orderLine.getQuantity(),
+                $quantity -> $quantity
+                    .failWhenNotBetween(0L, 10L))
+            .validateDouble("quantityAsDouble", $orderLine -> $orderLine.getQuantity(),
+                $quantity -> $quantity
+                    .failWhenNegative())
+            .result();
+
+        assertThat(result.getFailureCount()).isEqualTo(1);
+        ValidationRegistration actual = result.stream().findFirst().get();
+        assertThat(actual.getValidationCode()).isEqualTo(ValidationResultProvider.LESS_THAN);
+        assertThat(actual.getLocation()).isEqualTo("orderLine.quantity");
+    }
+
+    @Test
+    public void validateMap_RequiredAttributeMissing_RegisteredAtMap() throws Exception {
+        Map<String, String> attributes = ImmutableMap.of("color", "red");
+
+        ValidationResult result = new ObjectValidationContext<Map<String, String>>("item", attributes)
+            .evaluateMap("attributes", $item -> $item,
+                $attributes -> $attributes
+                    .failWhenMissingKey("size"))
+            .result();
+
+        ValidationRegistration actual = result.stream().findFirst().get();
+        assertThat(actual.getValidationCode()).isEqualTo(ValidationResultProvider.MISSING_KEY);
+        assertThat(actual.getLocation()).isEqualTo("item.attributes");
+    }
 }
@@ -0,0 +1,61 @@
+package dk.emstar.common.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import dk.emstar.common.validation.domain.OrderLine;
+import dk.emstar.common.validation.domain.Person;
+
+public class PropertyAccessorsTest {
+
+    @Test
+    public void getter_PublicProperty_ReadsProperty() throws Exception {
+        Person person = new Person();
+        person.setFirstname("Funny");
+
+        Function<Person, String> actual = PropertyAccessors.getter(Person.class, "firstname");
+
+        assertThat(actual.apply(person)).isEqualTo("Funny");
+        assertThat(PropertyAccessors.getType(Person.class, "firstname")).isEqualTo(String.class);
+    }
+
+    @Test
+    public void getter_PrimitiveProperty_ReadsBoxedValue() throws Exception {
+        OrderLine orderLine = new OrderLine();
+        orderLine.setQuantity(7);
+
+        Function<OrderLine, Integer> actual = PropertyAccessors.getter(OrderLine.class, "quantity");
+
+        assertThat(actual.apply(orderLine)).isEqualTo(7);
+    }
+
+    @Test
+    public void getter_SameProperty_ResolvedOnce() throws Exception {
+        Function<Person, String> first = PropertyAccessors.getter(Person.class, "lastname");
+        Function<Person, String> second = PropertyAccessors.getter(Person.class, "lastname");
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void getter_NonPublicType_ReadsProperty() throws Exception {
+        Function<Hidden, String> actual = PropertyAccessors.getter(Hidden.class, "name");
+
+        assertThat(actual.apply(new Hidden())).isEqualTo("hidden");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getter_UnknownProperty_Fails() throws Exception {
+        PropertyAccessors.getter(Person.class, "unknown");
+    }
+
+    private static class Hidden {
+        @SuppressWarnings("unused")
+        public String getName() {
+            return "hidden";
+        }
+    }
+}
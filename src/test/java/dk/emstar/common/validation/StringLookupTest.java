@@ -0,0 +1,45 @@
+package dk.emstar.common.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class StringLookupTest {
+    @Test
+    public void contains_ThousandsOfCodes_FindsAllAndNothingElse() throws Exception {
+        List<String> codes = new ArrayList<String>();
+        for (int i = 0; i < 5000; i++) {
+            codes.add("C" + i);
+        }
+
+        StringLookup lookup = StringLookup.of(codes);
+
+        assertThat(lookup.size()).isEqualTo(5000);
+        for (String code : codes) {
+            assertThat(lookup.contains(code)).as(code).isTrue();
+        }
+        assertThat(lookup.contains("C5000")).isFalse();
+        assertThat(lookup.contains("c1")).isFalse();
+        assertThat(lookup.contains(null)).isFalse();
+    }
+
+    @Test
+    public void contains_IgnoringCase_FindsOtherCase() throws Exception {
+        StringLookup lookup = StringLookup.ofIgnoringCase(Arrays.asList("DKK", "eur", "Usd", "dkk"));
+
+        assertThat(lookup.size()).isEqualTo(3);
+        assertThat(lookup.contains("dkk")).isTrue();
+        assertThat(lookup.contains("EUR")).isTrue();
+        assertThat(lookup.contains("uSD")).isTrue();
+        assertThat(lookup.contains("SEK")).isFalse();
+    }
+
+    @Test
+    public void contains_Empty_FindsNothing() throws Exception {
+        assertThat(StringLookup.of(new ArrayList<String>()).contains("")).isFalse();
+    }
+}
@@ -2,7 +2,11 @@ package dk.emstar.common.validation;
 
 import static org.assertj.core.api.StrictAssertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -261,4 +265,126 @@ public class StringValidationContextTest {
         
         assertThat(result.hasFailure()).isFalse();
     }
+
+    @Test
+    public void failWhenNotMatching_RegexNotMatching_MismatchFailureRegistered() throws Exception {
+        StringValidationContext stringValidationContext = new StringValidationContext("myVar", "", "myVar", "12-3");
+
+        ValidationResult result = stringValidationContext.failWhenNotMatching("\\d{2}-\\d{2}").result();
+
+        assertThat(result.hasFailure()).isTrue();
+        assertThat(result.stream().findFirst().get().getValidationCode()).isEqualTo(ValidationResultProvider.MISMATCH);
+    }
+
+    @Test
+    public void failWhenNotMatching_RegexMatching_NoFailure() throws Exception {
+        StringValidationContext stringValidationContext = new StringValidationContext("myVar", "", "myVar", "12-34");
+
+        ValidationResult result = stringValidationContext.failWhenNotMatching("\\d{2}-\\d{2}").result();
+
+        assertThat(result.hasFailure()).isFalse();
+    }
+
+    @Test
+    public void failWhenNotMatching_SameRegexTwice_PatternCompiledOnce() throws Exception {
+        PatternCache patternCache = new PatternCache(10);
+
+        new StringValidationContext("myVar", "", "myVar", "12-34").failWhenNotMatching("\\d{2}-\\d{2}", patternCache);
+        new StringValidationContext("myVar", "", "myVar", "1234").failWhenNotMatching("\\d{2}-\\d{2}", patternCache);
+
+        assertThat(patternCache.getMissCount()).isEqualTo(1l);
+        assertThat(patternCache.getHitCount()).isEqualTo(1l);
+        assertThat(patternCache.size()).isEqualTo(1l);
+    }
+
+    @Test
+    public void failWhenNotMatching_MoreRegexesThanMaximumSize_Evicted() throws Exception {
+        PatternCache patternCache = new PatternCache(1);
+
+        patternCache.matches("a", "a");
+        patternCache.matches("b", "b");
+
+        assertThat(patternCache.size()).isEqualTo(1l);
+        assertThat(patternCache.getEvictionCount()).isEqualTo(1l);
+    }
+
+    @Test(expected = PatternSyntaxException.class)
+    public void failWhenNotMatching_InvalidRegex_ThrowsPatternSyntaxException() throws Exception {
+        new StringValidationContext("myVar", "", "myVar", "a").failWhenNotMatching("(", new PatternCache(10));
+    }
+
+    @Test
+    public void failWhenNotDigits_HasLetters_MismatchFailureRegistered() throws Exception {
+        ValidationResult result = new StringValidationContext("myVar", "", "myVar", "12a4").failWhenNotDigits().result();
+
+        assertThat(result.hasFailure()).isTrue();
+        assertThat(result.stream().findFirst().get().getValidationCode()).isEqualTo(ValidationResultProvider.MISMATCH);
+    }
+
+    @Test
+    public void failWhenNotDigits_WrongLength_MismatchFailureRegistered() throws Exception {
+        assertThat(new StringValidationContext("myVar", "", "myVar", "1234").failWhenNotDigits(4).result().hasFailure()).isFalse();
+        assertThat(new StringValidationContext("myVar", "", "myVar", "123").failWhenNotDigits(4).result().hasFailure()).isTrue();
+    }
+
+    @Test
+    public void failWhenNotHex_HexString_NoFailure() throws Exception {
+        assertThat(new StringValidationContext("myVar", "", "myVar", "0aF9").failWhenNotHex().result().hasFailure()).isFalse();
+        assertThat(new StringValidationContext("myVar", "", "myVar", "0aG9").failWhenNotHex().result().hasFailure()).isTrue();
+    }
+
+    @Test
+    public void failWhenNotAsciiAlphanumeric_NonAscii_MismatchFailureRegistered() throws Exception {
+        assertThat(new StringValidationContext("myVar", "", "myVar", "ab12").failWhenNotAsciiAlphanumeric().result().hasFailure()).isFalse();
+        assertThat(new StringValidationContext("myVar", "", "myVar", "æb12").failWhenNotAsciiAlphanumeric().result().hasFailure()).isTrue();
+    }
+
+    @Test
+    public void failWhenNotUpperCaseLetters_CurrencyCode_NoFailure() throws Exception {
+        assertThat(new StringValidationContext("myVar", "", "myVar", "DKK").failWhenNotUpperCaseLetters(3).result().hasFailure()).isFalse();
+        assertThat(new StringValidationContext("myVar", "", "myVar", "Dkk").failWhenNotUpperCaseLetters(3).result().hasFailure()).isTrue();
+    }
+
+    @Test
+    public void failWhenNotOfLength_OptionalAndNull_NoFailure() throws Exception {
+        assertThat(new StringValidationContext("myVar", "", "myVar", null).asOptional().failWhenNotOfLength(3).result().hasFailure()).isFalse();
+        assertThat(new StringValidationContext("myVar", "", "myVar", null).failWhenNotOfLength(3).result().hasFailure()).isTrue();
+    }
+
+    @Test
+    public void failWhenNotIn_LargeListNotContainingItem_MismatchFailureRegistered() throws Exception {
+        List<String> codes = new ArrayList<String>();
+        for (int i = 0; i < 1000; i++) {
+            codes.add("C" + i);
+        }
+
+        assertThat(new StringValidationContext("myVar", "", "myVar", "C999").failWhenNotIn(codes).result().hasFailure()).isFalse();
+        assertThat(new StringValidationContext("myVar", "", "myVar", "C1000").failWhenNotIn(codes).result().hasFailure()).isTrue();
+        assertThat(new StringValidationContext("myVar", "", "myVar", "C1").failWhenIn(codes).result().hasFailure()).isTrue();
+    }
+
+    @Test
+    public void failWhenNotIn_LargeListChangedAfterUse_ChangeSeen() throws Exception {
+        List<String> codes = new ArrayList<String>();
+        for (int i = 0; i < 1000; i++) {
+            codes.add("C" + i);
+        }
+
+        assertThat(new StringValidationContext("myVar", "", "myVar", "D1").failWhenNotIn(codes).result().hasFailure()).isTrue();
+
+        codes.set(0, "D1");
+
+        assertThat(new StringValidationContext("myVar", "", "myVar", "D1").failWhenNotIn(codes).result().hasFailure()).isFalse();
+    }
+
+    @Test
+    public void failWhenNotIn_LookupIgnoringCase_NoFailure() throws Exception {
+        StringLookup currencies = StringLookup.ofIgnoringCase(Arrays.asList("DKK", "EUR"));
+
+        assertThat(new StringValidationContext("myVar", "", "myVar", "dkk").failWhenNotIn(currencies).result().hasFailure()).isFalse();
+        assertThat(new StringValidationContext("myVar", "", "myVar", "sek").failWhenNotIn(currencies).result().hasFailure()).isTrue();
+        assertThat(new StringValidationContext("myVar", "", "myVar", "eur").failWhenIn(currencies).result().hasFailure()).isTrue();
+        assertThat(new StringValidationContext("myVar", "", "myVar", null).asOptional().failWhenNotIn(currencies).result().hasFailure())
+            .isFalse();
+    }
 }
@@ -0,0 +1,115 @@
+package dk.emstar.common.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import org.junit.Test;
+
+public class TemporalValidationContextTest {
+
+    @Test
+    public void failWhenNotBetween_InstantOutsideInterval_NotBetweenRegistered() throws Exception {
+        TemporalInterval<Instant> interval = TemporalInterval.of(Instant.ofEpochSecond(1000, 500), Instant.ofEpochSecond(2000));
+
+        assertThat(validate(Instant.ofEpochSecond(1000, 499), interval).hasValidationCode(ValidationResultProvider.NOT_BETWEEN_TEMPORAL)).isTrue();
+        assertThat(validate(Instant.ofEpochSecond(1000, 500), interval).hasFailure()).isFalse();
+        assertThat(validate(Instant.ofEpochSecond(2000), interval).hasFailure()).isFalse();
+        assertThat(validate(Instant.ofEpochSecond(2000, 1), interval).hasFailure()).isTrue();
+        assertThat(validate(Instant.ofEpochSecond(-5), interval).hasFailure()).isTrue();
+    }
+
+    @Test
+    public void failWhenBefore_ZonedDateTimeInOtherZone_ComparedAsInstant() throws Exception {
+        ZonedDateTime limit = ZonedDateTime.of(2020, 1, 1, 12, 0, 0, 0, ZoneId.of("Europe/Copenhagen"));
+        ZonedDateTime sameInstant = limit.withZoneSameInstant(ZoneOffset.UTC);
+
+        ValidationResult result = new ZonedDateTimeValidationContext("timestamp", "", "timestamp", sameInstant)
+            .failWhenBefore(limit)
+            .failWhenAfter(limit)
+            .failWhenNotBetween(TemporalInterval.of(limit, limit.plusNanos(1)))
+            .result();
+
+        assertThat(result.hasFailure()).isFalse();
+
+        result = new ZonedDateTimeValidationContext("timestamp", "", "timestamp", sameInstant.minusNanos(1))
+            .failWhenBefore(limit)
+            .result();
+
+        assertThat(result.hasValidationCode(ValidationResultProvider.BEFORE_TEMPORAL)).isTrue();
+    }
+
+    @Test
+    public void failWhenAfter_OffsetDateTimeLater_AfterRegistered() throws Exception {
+        OffsetDateTime limit = OffsetDateTime.of(2020, 1, 1, 12, 0, 0, 0, ZoneOffset.ofHours(2));
+
+        ValidationResult result = new OffsetDateTimeValidationContext("timestamp", "", "timestamp", limit.plusSeconds(1))
+            .failWhenAfter(limit)
+            .result();
+
+        assertThat(result.hasValidationCode(ValidationResultProvider.AFTER_TEMPORAL)).isTrue();
+    }
+
+    @Test
+    public void failWhenBetween_LocalDateAtBoundary_BetweenRegistered() throws Exception {
+        TemporalInterval<LocalDate> holiday = TemporalInterval.of(LocalDate.of(2020, 12, 24), LocalDate.of(2020, 12, 26));
+
+        ValidationResult result = new LocalDateValidationContext("delivery", "", "delivery", LocalDate.of(2020, 12, 26))
+            .failWhenBetween(holiday)
+            .result();
+
+        assertThat(result.hasValidationCode(ValidationResultProvider.BETWEEN_TEMPORAL)).isTrue();
+    }
+
+    @Test
+    public void failWhenNotBetween_LocalTimeOutsideOpeningHours_NotBetweenRegistered() throws Exception {
+        ValidationResult result = new LocalTimeValidationContext("pickup", "", "pickup", LocalTime.of(7, 59, 59))
+            .failWhenNotBetween(LocalTime.of(8, 0), LocalTime.of(16, 0))
+            .result();
+
+        assertThat(result.hasValidationCode(ValidationResultProvider.NOT_BETWEEN_TEMPORAL)).isTrue();
+    }
+
+    @Test
+    public void failWhenNotBetween_LocalDateTimeInterval_SameAsBounds() throws Exception {
+        LocalDateTime begin = LocalDateTime.of(2020, 1, 1, 0, 0);
+        TemporalInterval<LocalDateTime> interval = TemporalInterval.of(begin, begin.plusDays(1));
+
+        ValidationResult result = new LocalDateTimeValidationContext("created", "", "created", begin.minusNanos(1))
+            .failWhenNotBetween(interval)
+            .result();
+
+        assertThat(result.hasValidationCode(ValidationResultProvider.NOT_BETWEEN_TEMPORAL)).isTrue();
+    }
+
+    @Test
+    public void validateInstant_Null_RegisterWarningItemIsNotMarkedAsOptional() throws Exception {
+        ValidationResult result = new ObjectValidationContext<String>("event", "event")
+            .validateInstant("timestamp", $event -> null,
+                $timestamp -> $timestamp
+                    .failWhenBefore(Instant.EPOCH))
+            .result();
+
+        ValidationRegistration actual = result.stream().findFirst().get();
+        assertThat(actual.getValidationCode()).isEqualTo(ValidationResultProvider.NOT_MARKED_AS_OPTIONAL);
+        assertThat(actual.getLocation()).isEqualTo("event.timestamp");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void of_BeginAfterEnd_ThrowsIllegalArgumentException() throws Exception {
+        TemporalInterval.of(LocalDate.of(2020, 1, 2), LocalDate.of(2020, 1, 1));
+    }
+
+    private ValidationResult validate(Instant instant, TemporalInterval<Instant> interval) {
+        return new InstantValidationContext("timestamp", "", "timestamp", instant)
+            .failWhenNotBetween(interval)
+            .result();
+    }
+}
@@ -0,0 +1,65 @@
+package dk.emstar.common.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class ValidationPathTest {
+
+    @Test
+    public void toString_NestedChildren_JoinedWithDots() throws Exception {
+        ValidationPath actual = ValidationPath.ROOT.child("order").child("customer").child("firstname");
+
+        assertThat(actual.toString()).isEqualTo("order.customer.firstname");
+    }
+
+    @Test
+    public void toString_IndexedChild_IndexInBrackets() throws Exception {
+        ValidationPath actual = ValidationPath.ROOT.child("order").child("orderlines").index(3).child("itemCode");
+
+        assertThat(actual.toString()).isEqualTo("order.orderlines[3].itemCode");
+    }
+
+    @Test
+    public void child_SameSegmentTwice_SamePath() throws Exception {
+        ValidationPath order = ValidationPath.ROOT.child("order");
+
+        assertThat(order.child("customer")).isSameAs(order.child("customer"));
+        assertThat(ValidationPath.ROOT.child("order")).isSameAs(order);
+    }
+
+    @Test
+    public void child_ChildOfIndex_NotInterned() throws Exception {
+        ValidationPath orderLine = ValidationPath.ROOT.child("orderlines").index(0);
+
+        assertThat(orderLine.child("itemCode")).isNotSameAs(orderLine.child("itemCode"));
+    }
+
+    @Test
+    public void of_EmptyPath_IsRoot() throws Exception {
+        assertThat(ValidationPath.of("")).isSameAs(ValidationPath.ROOT);
+        assertThat(ValidationPath.of(null)).isSameAs(ValidationPath.ROOT);
+        assertThat(ValidationPath.of("order.customer").child("firstname").toString()).isEqualTo("order.customer.firstname");
+    }
+
+    @Test
+    public void key_KeyObject_RenderedOnlyWhenAsked() throws Exception {
+        AtomicInteger renderings = new AtomicInteger();
+        Object key = new Object() {
+            @Override
+            public String toString() {
+                renderings.incrementAndGet();
+                return "DKK";
+            }
+        };
+
+        ValidationPath actual = ValidationPath.ROOT.child("prices").key(key).child("amount");
+
+        assertThat(renderings.get()).isEqualTo(0);
+        assertThat(actual.toString()).isEqualTo("prices[DKK].amount");
+        assertThat(actual.toString()).isEqualTo("prices[DKK].amount");
+        assertThat(renderings.get()).isEqualTo(1);
+    }
+}
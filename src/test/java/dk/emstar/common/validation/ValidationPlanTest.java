@@ -0,0 +1,238 @@
+package dk.emstar.common.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+import dk.emstar.common.validation.domain.Address;
+import dk.emstar.common.validation.domain.Order;
+import dk.emstar.common.validation.domain.OrderLine;
+import dk.emstar.common.validation.domain.Person;
+
+public class ValidationPlanTest {
+
+    private static final ValidationPlan<OrderLine> ORDER_LINE_PLAN = ValidationPlan.<OrderLine>builder("orderline")
+            .failWhenMissing()
+            .validateString("itemCode", OrderLine::getItemCode,
+                itemCode -> itemCode
+                    .failWhenMissing())
+            .build();
+
+    private static final ValidationPlan<Order> ORDER_PLAN = ValidationPlan.<Order>builder("order")
+            .failWhenMissing()
+            .validate("customer", Order::getCustomer,
+                customer -> customer
+                    .failWhenMissing()
+                    .validateString("firstname", Person::getFirstname,
+                        firstname -> firstname
+                            .failWhenMissing()))
+            .validateCollection("orderlines", Order::getOrderLine,
+                orderLines -> orderLines
+                    .failWhenMissing()
+                    .failWhenEmpty()
+                    .validateEachItem("orderline", ORDER_LINE_PLAN))
+            .build();
+
+    @Test
+    public void validateItem_Null_HasMissingOrder() throws Exception {
+        ValidationResult result = ORDER_PLAN.validateItem(null);
+
+        assertThat(result.hasFailure()).isTrue();
+        ValidationRegistration actual = result.stream().findFirst().get();
+
+        assertThat(actual.getContext()).isEqualTo("order");
+        assertThat(actual.getContextPath()).isEqualTo("order");
+        assertThat(actual.getLocation()).isEqualTo("order");
+        assertThat(actual.getValidationCode()).isEqualTo(ValidationResultProvider.MISSING);
+    }
+
+    @Test
+    public void validateItem_CustomerNoFirstName_RegisterAsMissingFirstName() throws Exception {
+        Order order = createOrder(new OrderLine());
+        order.getCustomer().setFirstname(null);
+        order.getOrderLine().get(0).setItemCode("a");
+
+        ValidationResult result = ORDER_PLAN.validateItem(order);
+
+        assertThat(result.hasFailure()).isTrue();
+        assertThat(result.stream().count()).isEqualTo(1);
+        ValidationRegistration actual = result.stream().findFirst().get();
+
+        assertThat(actual.getContext()).isEqualTo("firstname");
+        assertThat(actual.getContextPath()).isEqualTo("order.customer.firstname");
+        assertThat(actual.getLocation()).isEqualTo("order.customer.firstname");
+        assertThat(actual.getValidationCode()).isEqualTo(ValidationResultProvider.MISSING);
+    }
+
+    @Test
+    public void validateItem_NoItemCodeOnSecondOrderLine_RegisterAsMissingItemCode() throws Exception {
+        OrderLine orderLine = new OrderLine();
+        orderLine.setItemCode("a");
+        Order order = createOrder(orderLine, new OrderLine());
+
+        ValidationResult result = ORDER_PLAN.validateItem(order);
+
+        assertThat(result.hasFailure()).isTrue();
+        assertThat(result.stream().count()).isEqualTo(1);
+        ValidationRegistration actual = result.stream().findFirst().get();
+
+        assertThat(actual.getContext()).isEqualTo("itemCode");
+        assertThat(actual.getContextPath()).isEqualTo("order.orderlines.orderline.itemCode");
+        assertThat(actual.getLocation()).isEqualTo("order.orderlines[1].itemCode");
+        assertThat(actual.getValidationCode()).isEqualTo(ValidationResultProvider.MISSING);
+    }
+
+    @Test
+    public void validateItem_SamePlanAppliedTwice_ResultsAreIndependent() throws Exception {
+        OrderLine orderLine = new OrderLine();
+        orderLine.setItemCode("a");
+
+        ValidationResult invalid = ORDER_PLAN.validateItem(createOrder(new OrderLine()));
+        ValidationResult valid = ORDER_PLAN.validateItem(createOrder(orderLine));
+
+        assertThat(invalid.hasFailure()).isTrue();
+        assertThat(valid.hasFailure()).isFalse();
+        assertThat(valid.stream().count()).isEqualTo(0);
+    }
+
+    @Test
+    public void validate_ThroughFactory_SameAsInterpreted() throws Exception {
+        Order order = createOrder(new OrderLine(), null);
+
+        ValidationResult compiled = new DefaultValidationFactory().validate(ORDER_PLAN, order);
+        ValidationResult interpreted = new ObjectValidationContext<Order>("order", order)
+            .failWhenMissing()
+            .evaluate("customer", Order::getCustomer,
+                customer -> customer
+                    .failWhenMissing()
+                    .validateString("firstname", Person::getFirstname,
+                        firstname -> firstname
+                            .failWhenMissing()))
+            .evaluateCollection("orderlines", Order::getOrderLine,
+                orderLines -> orderLines
+                    .failWhenMissing()
+                    .failWhenEmpty()
+                    .evaluateEachItem("orderline",
+                        orderLine -> orderLine
+                            .failWhenMissing()
+                            .validateString("itemCode", OrderLine::getItemCode,
+                                itemCode -> itemCode
+                                    .failWhenMissing())))
+            .result();
+
+        assertThat(compiled.getAllDetails()).isEqualTo(interpreted.getAllDetails());
+    }
+
+    @Test
+    public void validateItem_PropertiesByName_SameAsGetters() throws Exception {
+        ValidationPlan<Order> namedPlan = ValidationPlan.builder("order", Order.class)
+                .failWhenMissing()
+                .<Person>validate("customer",
+                    customer -> customer
+                        .failWhenMissing()
+                        .validateString("firstname",
+                            firstname -> firstname
+                                .failWhenMissing()))
+                .<OrderLine>validateCollection("orderLine",
+                    orderLines -> orderLines
+                        .failWhenMissing()
+                        .failWhenEmpty()
+                        .validateEachItem("orderline", ORDER_LINE_PLAN))
+                .build();
+        Order order = createOrder(new OrderLine(), null);
+        order.getCustomer().setFirstname(null);
+
+        List<String> actual = namedPlan.validateItem(order).getAllDetails();
+
+        assertThat(actual).isEqualTo(Lists.transform(ORDER_PLAN.validateItem(order).getAllDetails(),
+            o -> o.replace("orderlines", "orderLine")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void builder_UnknownProperty_Fails() throws Exception {
+        ValidationPlan.builder("order", Order.class).validateString("unknown", 10, Required.Optional);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void builder_StringValidationOfNonStringProperty_Fails() throws Exception {
+        ValidationPlan.builder("order", Order.class).validateString("customer", 10, Required.Optional);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void builder_CollectionValidationOfNonCollectionProperty_Fails() throws Exception {
+        ValidationPlan.builder("order", Order.class).validateCollection("customer", CollectionValidationPlan.builder().build());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void builder_NestedPlanOfOtherType_Fails() throws Exception {
+        ValidationPlan.builder("order", Order.class).validate("customer", ValidationPlan.builder("address", Address.class).build());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void builder_PropertyByNameWithoutType_Fails() throws Exception {
+        ValidationPlan.<Order>builder("order").validateString("customer", 10, Required.Optional);
+    }
+
+    @Test
+    public void validateItem_StringAndCollectionPlans_SameAsFluentPlan() throws Exception {
+        ValidationPlan<OrderLine> orderLinePlan = ValidationPlan.<OrderLine>builder("orderline")
+                .failWhenMissing()
+                .validateString("itemCode", OrderLine::getItemCode, StringValidationPlan.builder()
+                    .failWhenMissing()
+                    .build())
+                .build();
+        ValidationPlan<Order> orderPlan = ValidationPlan.<Order>builder("order")
+                .failWhenMissing()
+                .validate("customer", Order::getCustomer,
+                    customer -> customer
+                        .failWhenMissing()
+                        .validateString("firstname", Person::getFirstname, StringValidationPlan.builder()
+                            .failWhenMissing()
+                            .build()))
+                .validateCollection("orderlines", Order::getOrderLine, CollectionValidationPlan.<OrderLine>builder()
+                    .failWhenMissing()
+                    .failWhenEmpty()
+                    .validateEachItem("orderline", orderLinePlan)
+                    .build())
+                .build();
+
+        Order order = createOrder(new OrderLine(), new OrderLine());
+        order.getCustomer().setFirstname(null);
+
+        assertThat(orderPlan.validateItem(order).getAllDetails()).isEqualTo(ORDER_PLAN.validateItem(order).getAllDetails());
+        assertThat(orderPlan.validateItem(order).getFailureCount()).isEqualTo(3);
+        assertThat(orderPlan.validateItem(createOrder()).getAllDetails()).isEqualTo(ORDER_PLAN.validateItem(createOrder()).getAllDetails());
+    }
+
+    @Test
+    public void validateItem_StringPlanWithLengthAndPattern_RegistersBoth() throws Exception {
+        ValidationPlan<Person> personPlan = ValidationPlan.<Person>builder("customer")
+                .validateString("firstname", Person::getFirstname, StringValidationPlan.builder()
+                    .failWhenLongerThan(3)
+                    .failWhenNotMatching("[a-z]+")
+                    .build())
+                .build();
+        Person person = new Person();
+        person.setFirstname("Abcd");
+
+        ValidationResult result = personPlan.validateItem(person);
+
+        assertThat(result.hasValidationCode(ValidationResultProvider.TOO_LONG)).isTrue();
+        assertThat(result.hasValidationCode(ValidationResultProvider.MISMATCH)).isTrue();
+    }
+
+    private Order createOrder(OrderLine... orderLines) {
+        Person person = new Person();
+        person.setFirstname("abc");
+
+        List<OrderLine> lines = Lists.newArrayList(orderLines);
+        Order order = new Order();
+        order.setCustomer(person);
+        order.setOrderLine(lines);
+        return order;
+    }
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.StrictAssertions.assertThat;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Spliterator;
 import java.util.stream.Collectors;
 
 import org.junit.Before;
@@ -159,4 +160,286 @@ public class ValidationResultTest {
         
         assertThat(actual.isPresent()).isFalse();
     }
+
+    @Test
+    public void getAllDetailsAsString_RegistrationsWithAndWithoutInput_DetailsJoined() throws Exception {
+        ValidationResult result = new ValidationResult("name", "person", "person.name");
+        result.registerNullValidation("11", "input is null");
+        result.registerValidationFailure("13", "input contains test and test2", "test", null, 12345);
+
+        String actual = result.getAllDetailsAsString();
+
+        assertThat(actual).isEqualTo("[person.name#11 - input is null], [person.name#13 - input contains test and test2: input: test, , 12345]");
+    }
+
+    @Test
+    public void appendDetailsTo_RegistrationWithoutPath_SameAsDetails() throws Exception {
+        ValidationRegistration registration = new ValidationRegistration("a", "first", ValidationLevel.Failure, "x");
+
+        StringBuilder actual = registration.appendDetailsTo(new StringBuilder("> "));
+
+        assertThat(actual.toString()).isEqualTo("> " + registration.getDetails());
+        assertThat(registration.getDetails()).isEqualTo("[null#a - first: input: x]");
+        assertThat(registration.toString()).isEqualTo("[a - first]");
+    }
+
+    @Test
+    public void getFailureCount_FailuresInNestedResults_CountedAtTheTop() throws Exception {
+        ValidationResult subSubValidationResult = new ValidationResult();
+        subSubValidationResult.register(new ValidationRegistration("c1", "first", ValidationLevel.Failure));
+
+        ValidationResult subValidationResult = new ValidationResult();
+        subValidationResult.register(new ValidationRegistration("b1", "first", ValidationLevel.Warning));
+        subValidationResult.register(subSubValidationResult);
+
+        validationResult.register(new ValidationRegistration("a", "first", ValidationLevel.Failure));
+        validationResult.register(subValidationResult);
+
+        assertThat(validationResult.getFailureCount()).isEqualTo(2);
+        assertThat(validationResult.getWarningCount()).isEqualTo(1);
+        assertThat(validationResult.getValidationCodeCount("c1")).isEqualTo(1);
+        assertThat(validationResult.getValidationCodeCount("x")).isEqualTo(0);
+        assertThat(subValidationResult.getFailureCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void iterator_RegistrationsNestedThreeLevels_IteratedInRegistrationOrder() throws Exception {
+        ValidationResult subSubValidationResult = new ValidationResult();
+        subSubValidationResult.register(new ValidationRegistration("c1", "first", ValidationLevel.Failure));
+        subSubValidationResult.register(new ValidationRegistration("c2", "second", ValidationLevel.Failure));
+
+        ValidationResult subValidationResult = new ValidationResult();
+        subValidationResult.register(new ValidationRegistration("b1", "first", ValidationLevel.Warning));
+        subValidationResult.register(subSubValidationResult);
+        subValidationResult.register(new ValidationRegistration("b2", "second", ValidationLevel.Warning));
+
+        validationResult.register(new ValidationRegistration("a1", "first", ValidationLevel.Failure));
+        validationResult.register(subValidationResult);
+        validationResult.register(new ValidationRegistration("a2", "second", ValidationLevel.Failure));
+
+        List<String> actual = Lists.newArrayList(validationResult).stream()
+            .map(ValidationRegistration::getValidationCode)
+            .collect(Collectors.toList());
+
+        assertThat(actual).containsExactly("a1", "b1", "c1", "c2", "b2", "a2");
+        assertThat(validationResult.getRegistrationCount()).isEqualTo(6);
+        assertThat(subValidationResult.getRegistrationCount()).isEqualTo(4);
+    }
+
+    @Test
+    public void spliterator_SomeRegistrations_SizedAndOrdered() throws Exception {
+        validationResult.registerValidationFailure("a", "first");
+        validationResult.registerValidationWarning("b", "second");
+
+        Spliterator<ValidationRegistration> actual = validationResult.spliterator();
+
+        assertThat(actual.getExactSizeIfKnown()).isEqualTo(2);
+        assertThat(actual.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED)).isTrue();
+    }
+
+    @Test
+    public void parallelStream_ManyRegistrations_SameAsSequential() throws Exception {
+        for (int i = 0; i < 10000; i++) {
+            validationResult.registerValidationFailure("c" + i % 7, "failure", i);
+        }
+
+        List<String> actual = validationResult.parallelStream().map(ValidationRegistration::getDetails).collect(Collectors.toList());
+
+        assertThat(validationResult.parallelStream().isParallel()).isTrue();
+        assertThat(actual).isEqualTo(validationResult.getAllDetails());
+        assertThat(validationResult.parallelStream().filter(o -> "c3".equals(o.getValidationCode())).count())
+            .isEqualTo(validationResult.getValidationCodeCount("c3"));
+    }
+
+    @Test
+    public void spliterator_NestedResults_SplitsAcrossSubResults() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            ValidationResult subValidationResult = new ValidationResult();
+            for (int j = 0; j < 50; j++) {
+                subValidationResult.registerValidationFailure("c" + j % 7, "failure", i, j);
+            }
+
+            ValidationResult subSubValidationResult = new ValidationResult();
+            subSubValidationResult.registerValidationWarning("w", "warning", i);
+            subValidationResult.register(subSubValidationResult);
+            validationResult.register(subValidationResult);
+            validationResult.registerValidationFailure("a", "failure", i);
+        }
+
+        Spliterator<ValidationRegistration> actual = validationResult.spliterator();
+        Spliterator<ValidationRegistration> prefix = actual.trySplit();
+        List<String> expected = Lists.newArrayList(validationResult).stream().map(ValidationRegistration::getDetails).collect(Collectors.toList());
+
+        assertThat(validationResult.spliterator().getExactSizeIfKnown()).isEqualTo(1040);
+        assertThat(prefix.getExactSizeIfKnown()).isEqualTo(520);
+        assertThat(actual.getExactSizeIfKnown()).isEqualTo(520);
+        assertThat(validationResult.stream().map(ValidationRegistration::getDetails).collect(Collectors.toList())).isEqualTo(expected);
+        assertThat(validationResult.parallelStream().map(ValidationRegistration::getDetails).collect(Collectors.toList())).isEqualTo(expected);
+        assertThat(validationResult.parallelStream().filter(o -> "c3".equals(o.getValidationCode())).count())
+            .isEqualTo(validationResult.getValidationCodeCount("c3"));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void validationRegistrationIterator_IteratorOfRegistrationsAndResults_Flattened() throws Exception {
+        ValidationResult subValidationResult = new ValidationResult();
+        subValidationResult.register(new ValidationRegistration("b1", "first", ValidationLevel.Failure));
+        List<Object> elements = Lists.<Object>newArrayList(new ValidationRegistration("a1", "first", ValidationLevel.Failure), new ValidationResult(),
+                subValidationResult, new ValidationRegistration("a2", "second", ValidationLevel.Failure));
+
+        List<String> actual = Lists.newArrayList(new ValidationRegistrationIterator(elements.iterator())).stream()
+            .map(ValidationRegistration::getValidationCode)
+            .collect(Collectors.toList());
+
+        assertThat(actual).containsExactly("a1", "b1", "a2");
+    }
+
+    @Test
+    public void iterator_RegisteredInSubResultAfterItWasRegistered_IteratedAtPositionOfSubResult() throws Exception {
+        ValidationResult subValidationResult = new ValidationResult();
+        validationResult.register(new ValidationRegistration("a1", "first", ValidationLevel.Failure));
+        validationResult.register(subValidationResult);
+        validationResult.register(new ValidationRegistration("a2", "second", ValidationLevel.Failure));
+
+        subValidationResult.register(new ValidationRegistration("b1", "first", ValidationLevel.Failure));
+
+        List<String> actual = validationResult.stream()
+            .map(ValidationRegistration::getValidationCode)
+            .collect(Collectors.toList());
+
+        assertThat(actual).containsExactly("a1", "b1", "a2");
+        assertThat(validationResult.getRegistrationCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void hasFailure_FailureRegisteredInSubResultAfterItWasRegistered_HasFailure() throws Exception {
+        ValidationResult subValidationResult = new ValidationResult();
+        validationResult.register(subValidationResult);
+
+        assertThat(validationResult.hasFailure()).isFalse();
+
+        subValidationResult.register(new ValidationRegistration("b1", "first", ValidationLevel.Failure));
+
+        assertThat(validationResult.hasFailure()).isTrue();
+        assertThat(validationResult.hasValidationCode("b1")).isTrue();
+        assertThat(validationResult.findValidationCode("b1").getValidationCode()).isEqualTo("b1");
+    }
+
+    @Test
+    public void throwWhenHasValidationCode_HasCodeAndFailure_ExceptionThrownWithCode() throws Exception {
+        thrown.expect(ValidationException.class);
+
+        validationResult.registerValidationWarning("11", "input is odd");
+        validationResult.registerValidationFailure("12", "input contains test", "test");
+
+        try {
+            validationResult.conclude(conclusion -> conclusion
+                    .throwWhenHasValidationCode("10")
+                    .throwWhenHasValidationCode("11"));
+        } catch (ValidationException e) {
+            assertThat(e.getValidationCode()).isEqualTo("11");
+            assertThat(e.getMessage()).isEqualTo("input is odd");
+            throw e;
+        }
+    }
+
+    @Test
+    public void throwWhenHasValidationCode_RegistrationsNotRetained_ExceptionThrownWithCode() throws Exception {
+        thrown.expect(ValidationException.class);
+
+        ValidationResult notRetained = new ObjectValidationContext<Object>("order", null, ValidationOptions.DEFAULT.withRetainRegistrations(false))
+            .failWhenMissing()
+            .result()
+            .indexValidationCodes();
+
+        assertThat(notRetained.hasValidationCode(ValidationResultProvider.MISSING)).isTrue();
+        assertThat(notRetained.findValidationCode(ValidationResultProvider.MISSING)).isNull();
+        assertThat(notRetained.findAllValidationCode(ValidationResultProvider.MISSING)).isEmpty();
+
+        try {
+            notRetained.conclude(conclusion -> conclusion.throwWhenHasValidationCode(ValidationResultProvider.MISSING));
+        } catch (ValidationException e) {
+            assertThat(e.getValidationCode()).isEqualTo(ValidationResultProvider.MISSING);
+            assertThat(e.getMessage()).isEqualTo("registered 1 time(s)");
+            throw e;
+        }
+    }
+
+    @Test
+    public void throwIncludeAllMessagesWhenAnyFailures_LightweightExceptions_NoStackTraceAndSameMessage() throws Exception {
+        ValidationResult lightweight = new ObjectValidationContext<Object>("order", null, ValidationOptions.DEFAULT.withLightweightExceptions(true))
+            .failWhenMissing()
+            .result();
+        ValidationResult standard = new ObjectValidationContext<Object>("order", null)
+            .failWhenMissing()
+            .result();
+
+        ValidationException actual = catchValidationException(lightweight);
+        ValidationException expected = catchValidationException(standard);
+
+        assertThat(actual.getStackTrace()).isEmpty();
+        assertThat(expected.getStackTrace()).isNotEmpty();
+        assertThat(actual.getValidationCode()).isEqualTo(expected.getValidationCode());
+        assertThat(actual.getMessage()).isEqualTo(expected.getMessage());
+    }
+
+    @Test
+    public void findAllValidationCode_IndexedResultWithSubResults_AllRegistrationsInOrder() throws Exception {
+        ValidationResult subValidationResult = new ValidationResult();
+        subValidationResult.register(new ValidationRegistration("b", "second", ValidationLevel.Failure));
+        subValidationResult.register(new ValidationRegistration("a", "third", ValidationLevel.Failure));
+
+        validationResult.register(new ValidationRegistration("a", "first", ValidationLevel.Warning));
+        validationResult.indexValidationCodes();
+        validationResult.register(subValidationResult);
+
+        List<String> actual = validationResult.findAllValidationCode("a").stream().map(o -> o.getValidationMessage()).collect(Collectors.toList());
+
+        assertThat(validationResult.isValidationCodesIndexed()).isTrue();
+        assertThat(actual).isEqualTo(Lists.newArrayList("first", "third"));
+        assertThat(validationResult.findValidationCode("b").getValidationMessage()).isEqualTo("second");
+        assertThat(validationResult.findValidationCode("c")).isNull();
+        assertThat(validationResult.findAllValidationCode("c")).isEmpty();
+    }
+
+    @Test
+    public void findAllValidationCode_NotIndexed_SameAsIndexed() throws Exception {
+        validationResult.register(new ValidationRegistration("a", "first", ValidationLevel.Warning));
+        validationResult.register(new ValidationRegistration("a", "second", ValidationLevel.Failure));
+
+        List<ValidationRegistration> actual = validationResult.findAllValidationCode("a");
+
+        assertThat(validationResult.isValidationCodesIndexed()).isFalse();
+        assertThat(actual).isEqualTo(validationResult.indexValidationCodes().findAllValidationCode("a"));
+    }
+
+    @Test
+    public void register_SubResultAlreadyRegisteredElsewhere_ThrowsIllegalStateException() throws Exception {
+        ValidationResult subValidationResult = new ValidationResult();
+        new ValidationResult().register(subValidationResult);
+
+        thrown.expect(IllegalStateException.class);
+
+        validationResult.register(subValidationResult);
+    }
+
+    @Test
+    public void register_ResultInItself_ThrowsIllegalStateException() throws Exception {
+        ValidationResult subValidationResult = new ValidationResult();
+        validationResult.register(subValidationResult);
+
+        thrown.expect(IllegalStateException.class);
+
+        subValidationResult.register(validationResult);
+    }
+
+    private ValidationException catchValidationException(ValidationResult validationResult) {
+        try {
+            validationResult.conclude(conclusion -> conclusion.throwIncludeAllMessagesWhenAnyFailures("10", "invalid order"));
+        } catch (ValidationException e) {
+            return e;
+        }
+
+        return null;
+    }
 }
@@ -0,0 +1,195 @@
+package dk.emstar.common.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+import java.beans.SimpleBeanInfo;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+import dk.emstar.common.validation.domain.Address;
+import dk.emstar.common.validation.domain.Order;
+import dk.emstar.common.validation.domain.OrderLine;
+import dk.emstar.common.validation.domain.Person;
+
+public class ValidatorGeneratorTest {
+
+    private static final ValidationPlan<Order> ORDER_PLAN = ValidationPlan.builder("order", Order.class)
+            .failWhenMissing()
+            .<Person>validate("customer",
+                customer -> customer
+                    .failWhenMissing()
+                    .validateString("firstname", 5, Required.Mandatory)
+                    .validateString("middlename", 5, Required.Optional)
+                    .<Address>validate("billingAddress",
+                        billingAddress -> billingAddress
+                            .asOptional()
+                            .validateString("addressline1", 10, Required.Mandatory)))
+            .<Address>validate("shippingAddress",
+                shippingAddress -> shippingAddress
+                    .validateString("addressline1", 10, Required.Mandatory))
+            .build();
+
+    private static final ValidationPlan<Order> COMPILED_ORDER_PLAN = ORDER_PLAN.compile();
+
+    @Test
+    public void compile_PropertiesByName_IsCompiled() throws Exception {
+        assertThat(COMPILED_ORDER_PLAN.isCompiled()).isTrue();
+        assertThat(ORDER_PLAN.isCompiled()).isFalse();
+        assertThat(COMPILED_ORDER_PLAN.compile()).isSameAs(COMPILED_ORDER_PLAN);
+    }
+
+    @Test
+    public void compile_PlanWithPredicate_NotCompiled() throws Exception {
+        ValidationPlan<Order> plan = ValidationPlan.builder("order", Order.class)
+                .failWhen(o -> o.getCustomer() == null, "X-1", "no customer")
+                .build();
+
+        assertThat(plan.compile()).isSameAs(plan);
+    }
+
+    @Test
+    public void validateItem_NoOrder_SameAsInterpreted() throws Exception {
+        assertSameAsInterpreted(null, ValidationOptions.DEFAULT);
+    }
+
+    @Test
+    public void validateItem_EmptyOrder_SameAsInterpreted() throws Exception {
+        assertSameAsInterpreted(new Order(), ValidationOptions.DEFAULT);
+    }
+
+    @Test
+    public void validateItem_InvalidCustomer_SameAsInterpreted() throws Exception {
+        Order order = createOrder("Funny Guy", "Middle", null);
+
+        assertSameAsInterpreted(order, ValidationOptions.DEFAULT);
+    }
+
+    @Test
+    public void validateItem_ValidOrder_SameAsInterpreted() throws Exception {
+        Order order = createOrder("Funny", null, "Street 1");
+
+        List<String> actual = assertSameAsInterpreted(order, ValidationOptions.DEFAULT);
+
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    public void validateItem_FailFast_SameAsInterpreted() throws Exception {
+        Order order = createOrder("Funny Guy", "Middle", null);
+
+        List<String> actual = assertSameAsInterpreted(order, ValidationOptions.DEFAULT.withValidationMode(ValidationMode.FailFast));
+
+        assertThat(actual).hasSize(1);
+    }
+
+    @Test
+    public void validateItem_NotMarkedAsOptionalWarningsDisabled_SameAsInterpreted() throws Exception {
+        assertSameAsInterpreted(new Order(), ValidationOptions.DEFAULT.withNotMarkedAsOptionalWarnings(false));
+    }
+
+    @Test
+    public void validateEachItem_CompiledPlan_LocationsHaveIndex() throws Exception {
+        ValidationPlan<OrderLine> plan = ValidationPlan.builder("orderline", OrderLine.class)
+                .validateString("itemCode", 3, Required.Mandatory)
+                .build();
+        OrderLine orderLine = new OrderLine();
+        orderLine.setItemCode("abcd");
+        List<OrderLine> orderLines = Lists.newArrayList(new OrderLine(), orderLine);
+
+        ValidationResult actual = new CollectionValidationContext<OrderLine>("orderlines", "order", "order.orderlines", orderLines)
+            .validateEachItem("orderline", plan.compile())
+            .result();
+        ValidationResult expected = new CollectionValidationContext<OrderLine>("orderlines", "order", "order.orderlines", orderLines)
+            .validateEachItem("orderline", plan)
+            .result();
+
+        assertThat(actual.stream().map(ValidationRegistration::getLocation).toArray())
+            .isEqualTo(expected.stream().map(ValidationRegistration::getLocation).toArray());
+        assertThat(actual.getAllDetails()).isEqualTo(expected.getAllDetails());
+        assertThat(actual.findValidationCode(ValidationResultProvider.TOO_LONG).getLocation()).isEqualTo("order.orderlines[1].itemCode");
+    }
+
+    @Test
+    public void compile_BuilderReusedAfterBuild_SameAsInterpreted() throws Exception {
+        ValidationPlanBuilder<Person> builder = ValidationPlan.builder("customer", Person.class)
+                .validateString("firstname", 10, Required.Mandatory);
+        ValidationPlan<Person> plan = builder.build();
+        builder.validateString("firstname", 2, Required.Mandatory);
+        Person person = new Person();
+        person.setFirstname("Funny");
+
+        ValidationPlan<Person> actual = plan.compile();
+
+        assertThat(actual.isCompiled()).isTrue();
+        assertThat(actual.validateItem(person).getAllDetails()).isEqualTo(plan.validateItem(person).getAllDetails()).isEmpty();
+    }
+
+    @Test
+    public void compile_PropertyWithControlCharacter_IsCompiled() throws Exception {
+        ValidationPlan<Coded> plan = ValidationPlan.builder("coded", Coded.class)
+                .validateString("code\n", 3, Required.Mandatory)
+                .build();
+        Coded coded = new Coded();
+        coded.code = "abcd";
+
+        ValidationPlan<Coded> actual = plan.compile();
+
+        assertThat(actual.isCompiled()).isTrue();
+        assertThat(actual.validateItem(coded).getAllDetails()).isEqualTo(plan.validateItem(coded).getAllDetails());
+    }
+
+    private List<String> assertSameAsInterpreted(Order order, ValidationOptions options) {
+        ValidationResult actual = COMPILED_ORDER_PLAN.validate(new ObjectValidationContext<Order>("order", order, options));
+        ValidationResult expected = ORDER_PLAN.validate(new ObjectValidationContext<Order>("order", order, options));
+
+        assertThat(actual.getAllDetails()).isEqualTo(expected.getAllDetails());
+        assertThat(actual.stream().map(ValidationRegistration::getLocation).toArray())
+            .isEqualTo(expected.stream().map(ValidationRegistration::getLocation).toArray());
+        assertThat(actual.stream().map(ValidationRegistration::getContext).toArray())
+            .isEqualTo(expected.stream().map(ValidationRegistration::getContext).toArray());
+        assertThat(actual.getFailureCount()).isEqualTo(expected.getFailureCount());
+        assertThat(actual.getWarningCount()).isEqualTo(expected.getWarningCount());
+        return actual.getAllDetails();
+    }
+
+    private Order createOrder(String firstname, String middlename, String addressline1) {
+        Address address = new Address();
+        address.setAddressline1(addressline1);
+
+        Person person = new Person();
+        person.setFirstname(firstname);
+        person.setMiddlename(middlename);
+
+        Order order = new Order();
+        order.setCustomer(person);
+        order.setShippingAddress(address);
+        return order;
+    }
+
+    public static class Coded {
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+    }
+
+    /**
+     * Names the property with a control character, which has to be escaped in the generated source.
+     */
+    public static class CodedBeanInfo extends SimpleBeanInfo {
+        @Override
+        public PropertyDescriptor[] getPropertyDescriptors() {
+            try {
+                return new PropertyDescriptor[] { new PropertyDescriptor("code\n", Coded.class, "getCode", null) };
+            } catch (IntrospectionException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}